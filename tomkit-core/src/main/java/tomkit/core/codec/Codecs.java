@@ -0,0 +1,253 @@
+package tomkit.core.codec;
+
+import tomkit.core.codec.binary.Base64;
+import tomkit.core.codec.binary.Hex;
+import tomkit.core.codec.compress.CompressionCodec;
+import tomkit.core.io.IOStreams;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 编解码器注册表
+ * <p>
+ * 按名称查找编解码器，名称不区分大小写；多个名称用{@code |}连接表示按顺序组合的编解码链，
+ * 例如{@code gzip|base64url}表示先gzip压缩再进行url安全的base64编码，解码时顺序相反。
+ * 编解码链通过嵌套流包装实现，各阶段之间不产生中间字节数组
+ * <pre>
+ *     StreamingCodec codec = Codecs.get("gzip|base64url");
+ *     byte[] encoded = codec.encode(payload);
+ *     try (OutputStream os = codec.encodingStream(Files.newOutputStream(path))) {
+ *         os.write(payload);
+ *     }
+ * </pre>
+ * 内置的编解码器：{@code hex}、{@code base64}、{@code base64url}、{@code base64mime}、
+ * {@code gzip}、{@code zlib}、{@code deflate}
+ *
+ * @author yh
+ * @since 2026/10/18
+ */
+public final class Codecs {
+
+    /**
+     * 编解码链中名称的分隔符
+     */
+    public static final char CHAIN_SEPARATOR = '|';
+
+    private static final Map<String, StreamingCodec> REGISTRY = new ConcurrentHashMap<>();
+
+    static {
+        register("hex", new Hex());
+        register("base64", Base64.codec());
+        register("base64url", Base64.urlSafeCodec());
+        register("base64mime", Base64.mimeCodec());
+        register("gzip", CompressionCodec.gzip());
+        register("zlib", CompressionCodec.zlib());
+        register("deflate", CompressionCodec.deflate());
+    }
+
+    private Codecs() {
+    }
+
+    /**
+     * 注册编解码器，已存在同名编解码器时覆盖
+     *
+     * @param name  名称，不区分大小写，不能包含{@link #CHAIN_SEPARATOR}
+     * @param codec 编解码器
+     * @return 之前注册的同名编解码器，不存在时返回null
+     * @throws IllegalArgumentException 如果名称为空或包含{@link #CHAIN_SEPARATOR}
+     */
+    public static StreamingCodec register(final String name, final StreamingCodec codec) {
+        Objects.requireNonNull(codec, "codec");
+        return REGISTRY.put(normalize(name), codec);
+    }
+
+    /**
+     * 移除已注册的编解码器
+     *
+     * @param name 名称
+     * @return 被移除的编解码器，不存在时返回null
+     */
+    public static StreamingCodec unregister(final String name) {
+        return REGISTRY.remove(normalize(name));
+    }
+
+    /**
+     * 获取所有已注册的编解码器名称
+     *
+     * @return 排序后的名称集合
+     */
+    public static Set<String> names() {
+        return new TreeSet<>(REGISTRY.keySet());
+    }
+
+    /**
+     * 按名称或编解码链获取编解码器
+     *
+     * @param spec 名称，或用{@link #CHAIN_SEPARATOR}连接的多个名称
+     * @return 编解码器
+     * @throws IllegalArgumentException 如果存在未注册的名称
+     */
+    public static StreamingCodec get(final String spec) {
+        Objects.requireNonNull(spec, "spec");
+        final List<StreamingCodec> stages = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= spec.length(); i++) {
+            if (i == spec.length() || spec.charAt(i) == CHAIN_SEPARATOR) {
+                final String name = normalize(spec.substring(start, i));
+                final StreamingCodec codec = REGISTRY.get(name);
+                if (codec == null) {
+                    throw new IllegalArgumentException("Unknown codec '" + name + "' in '" + spec + "'");
+                }
+                stages.add(codec);
+                start = i + 1;
+            }
+        }
+        return stages.size() == 1 ? stages.get(0) : chain(stages.toArray(new StreamingCodec[0]));
+    }
+
+    /**
+     * 判断名称或编解码链中的所有名称是否都已注册
+     *
+     * @param spec 名称，或用{@link #CHAIN_SEPARATOR}连接的多个名称
+     * @return 是否都已注册
+     */
+    public static boolean isRegistered(final String spec) {
+        try {
+            get(spec);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 将多个编解码器组合为编解码链，编码时按参数顺序依次编码，解码时顺序相反
+     *
+     * @param stages 编解码器
+     * @return 编解码链
+     */
+    public static StreamingCodec chain(final StreamingCodec... stages) {
+        if (stages.length == 0) {
+            throw new IllegalArgumentException("At least one codec is required");
+        }
+        for (StreamingCodec stage : stages) {
+            Objects.requireNonNull(stage, "stage");
+        }
+        return new ChainCodec(stages.clone());
+    }
+
+    private static String normalize(final String name) {
+        final String key = name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+        if (key.isEmpty() || key.indexOf(CHAIN_SEPARATOR) >= 0) {
+            throw new IllegalArgumentException("Invalid codec name '" + name + "'");
+        }
+        return key;
+    }
+
+    /**
+     * 以流的方式编码字节数组
+     */
+    static byte[] encode(final StreamingCodec codec, final byte[] source) throws EncoderException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(source.length);
+        try (OutputStream os = codec.encodingStream(output)) {
+            os.write(source);
+        } catch (IOException e) {
+            throw new EncoderException(e.getMessage(), e);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * 以流的方式解码字节数组
+     */
+    static byte[] decode(final StreamingCodec codec, final byte[] source) throws DecoderException {
+        try (InputStream is = codec.decodingStream(new ByteArrayInputStream(source))) {
+            return IOStreams.toByteArray(is);
+        } catch (IOException e) {
+            throw new DecoderException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 按顺序组合的编解码链
+     */
+    private static final class ChainCodec implements StreamingCodec {
+
+        private final StreamingCodec[] stages;
+
+        private ChainCodec(final StreamingCodec[] stages) {
+            this.stages = stages;
+        }
+
+        @Override
+        public OutputStream encodingStream(final OutputStream out) throws IOException {
+            // 最后一个阶段最靠近输出流，第一个阶段最先接收数据
+            OutputStream os = out;
+            for (int i = stages.length - 1; i >= 0; i--) {
+                os = stages[i].encodingStream(os);
+            }
+            return os;
+        }
+
+        @Override
+        public InputStream decodingStream(final InputStream in) throws IOException {
+            // 最后一个阶段最先解码输入数据
+            InputStream is = in;
+            for (int i = stages.length - 1; i >= 0; i--) {
+                is = stages[i].decodingStream(is);
+            }
+            return is;
+        }
+
+        @Override
+        public byte[] encode(final byte[] source) throws EncoderException {
+            return Codecs.encode(this, source);
+        }
+
+        @Override
+        public Object encode(final Object source) throws EncoderException {
+            if (source instanceof byte[]) {
+                return encode((byte[]) source);
+            }
+            throw new EncoderException("Parameter supplied to codec chain encode is not a byte[]");
+        }
+
+        @Override
+        public byte[] decode(final byte[] source) throws DecoderException {
+            return Codecs.decode(this, source);
+        }
+
+        @Override
+        public Object decode(final Object source) throws DecoderException {
+            if (source instanceof byte[]) {
+                return decode((byte[]) source);
+            }
+            throw new DecoderException("Parameter supplied to codec chain decode is not a byte[]");
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder();
+            for (StreamingCodec stage : stages) {
+                if (builder.length() > 0) {
+                    builder.append(CHAIN_SEPARATOR);
+                }
+                builder.append(stage);
+            }
+            return builder.toString();
+        }
+    }
+
+}
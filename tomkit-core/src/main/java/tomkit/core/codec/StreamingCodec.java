@@ -0,0 +1,35 @@
+package tomkit.core.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A binary codec that can also encode and decode incrementally through stream wrappers, so that several codecs can be
+ * chained without materializing the intermediate data.
+ *
+ * @author yh
+ * @since 2026/10/18
+ */
+public interface StreamingCodec extends BinaryEncoder, BinaryDecoder {
+
+    /**
+     * Wraps an output stream so that data written to the returned stream is encoded and written to {@code out}.
+     * Closing the returned stream finishes the encoding and closes {@code out}.
+     *
+     * @param out the stream receiving the encoded data
+     * @return an output stream accepting the data to encode
+     * @throws IOException if the wrapper cannot be created, e.g. a header cannot be written
+     */
+    OutputStream encodingStream(OutputStream out) throws IOException;
+
+    /**
+     * Wraps an input stream of encoded data so that reading from the returned stream yields the decoded data.
+     * Closing the returned stream closes {@code in}.
+     *
+     * @param in the stream supplying the encoded data
+     * @return an input stream of the decoded data
+     * @throws IOException if the wrapper cannot be created, e.g. a header cannot be read
+     */
+    InputStream decodingStream(InputStream in) throws IOException;
+}
@@ -1,10 +1,17 @@
 package tomkit.core.codec.binary;
 
+import tomkit.core.codec.DecoderException;
+import tomkit.core.codec.EncoderException;
+import tomkit.core.codec.StreamingCodec;
 import tomkit.core.io.IOStreams;
 import tomkit.core.lang.Charsets;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
 
 /**
  * base64工具类
@@ -14,9 +21,120 @@ import java.nio.charset.Charset;
  */
 public final class Base64 {
 
+    /**
+     * 流式编码每次读取的源字节数，为3的整数倍，编码后恰好为{@link IOStreams#DEFAULT_BUFFER_SIZE}
+     */
+    private static final int ENCODE_CHUNK_SIZE = IOStreams.DEFAULT_BUFFER_SIZE / 4 * 3;
+
     private Base64() {
     }
 
+    /**
+     * 获取标准base64编解码器（RFC 4648）
+     *
+     * @return 可复用的编解码器
+     */
+    public static Codec codec() {
+        return Codec.BASIC;
+    }
+
+    /**
+     * 获取url安全的base64编解码器（RFC 4648 URL and Filename safe）
+     *
+     * @return 可复用的编解码器
+     */
+    public static Codec urlSafeCodec() {
+        return Codec.URL_SAFE;
+    }
+
+    /**
+     * 获取MIME格式的base64编解码器（RFC 2045），编码时每76个字符插入一个{@code \r\n}，解码时忽略非base64字符
+     *
+     * @return 可复用的编解码器
+     */
+    public static Codec mimeCodec() {
+        return Codec.MIME;
+    }
+
+    /**
+     * 计算标准base64编码后的字节长度
+     *
+     * @param srcLen 源字节长度
+     * @return 编码后字节长度
+     * @throws IllegalArgumentException 如果编码后长度超出int范围
+     */
+    public static int encodedLength(final int srcLen) {
+        return Codec.BASIC.encodedLength(srcLen);
+    }
+
+    /**
+     * 计算标准base64编码内容解码后的字节长度
+     *
+     * @param src    编码字节数组
+     * @param srcOff 编码内容起始位置
+     * @param srcLen 编码内容长度
+     * @return 解码后字节长度
+     */
+    public static int decodedLength(final byte[] src, final int srcOff, final int srcLen) {
+        return Codec.BASIC.decodedLength(src, srcOff, srcLen);
+    }
+
+    /**
+     * base64编码，结果写入调用方提供的字节数组，不分配新的数组
+     *
+     * @param src    源字节数组
+     * @param srcOff 源字节起始位置
+     * @param srcLen 源字节长度
+     * @param dst    目标字节数组
+     * @param dstOff 目标字节数组写入起始位置
+     * @return 写入的字节数
+     * @throws IllegalArgumentException 如果目标字节数组空间不足
+     * @see #encodedLength(int)
+     */
+    public static int encode(final byte[] src, final int srcOff, final int srcLen, final byte[] dst, final int dstOff) {
+        return Codec.BASIC.encode(src, srcOff, srcLen, dst, dstOff);
+    }
+
+    /**
+     * base64编码，编码{@code src}剩余的全部字节并写入{@code dst}，两个缓冲区的position都会相应前移
+     *
+     * @param src 源字节缓冲区
+     * @param dst 目标字节缓冲区
+     * @return 写入的字节数
+     * @throws IllegalArgumentException 如果目标缓冲区空间不足
+     */
+    public static int encode(final ByteBuffer src, final ByteBuffer dst) {
+        return Codec.BASIC.encode(src, dst);
+    }
+
+    /**
+     * base64解码，结果写入调用方提供的字节数组，不分配新的数组
+     *
+     * @param src    编码字节数组
+     * @param srcOff 编码内容起始位置
+     * @param srcLen 编码内容长度
+     * @param dst    目标字节数组
+     * @param dstOff 目标字节数组写入起始位置
+     * @return 写入的字节数
+     * @throws IllegalArgumentException 如果编码内容不合法或目标字节数组空间不足
+     * @see #decodedLength(byte[], int, int)
+     */
+    public static int decode(final byte[] src, final int srcOff, final int srcLen, final byte[] dst, final int dstOff) {
+        return Codec.BASIC.decode(src, srcOff, srcLen, dst, dstOff);
+    }
+
+    /**
+     * base64解码，解码{@code src}剩余的全部字节并写入{@code dst}，两个缓冲区的position都会相应前移
+     *
+     * @param src 编码字节缓冲区
+     * @param dst 目标字节缓冲区
+     * @return 写入的字节数
+     * @throws IllegalArgumentException 如果编码内容不合法或目标缓冲区空间不足
+     */
+    public static int decode(final ByteBuffer src, final ByteBuffer dst) {
+        return Codec.BASIC.decode(src, dst);
+    }
+
     /**
      * base64编码
      *
@@ -53,17 +171,26 @@ public final class Base64 {
 
     /**
      * 将输入流内容进行base64编码
+     * <p>
+     * 边读取边编码，不会先将输入流内容完整读入内存
      *
      * @param inputStream 输入流
      * @return 流内容的base64编码
      * @throws IOException 如果发生I/O错误
      */
     public static byte[] encode(final InputStream inputStream) throws IOException {
-        return encode(IOStreams.toByteArray(inputStream));
+        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            try (OutputStream os = encodeWarp(output)) {
+                IOStreams.copy(inputStream, os);
+            }
+            return output.toByteArray();
+        }
     }
 
     /**
      * 将阅读器内容进行base46编码
+     * <p>
+     * 边读取边编码，不会先将阅读器内容完整读入内存
      *
      * @param reader  阅读器
      * @param charset 字符编码
@@ -71,7 +198,28 @@ public final class Base64 {
      * @throws IOException 如果发生I/O错误
      */
     public static byte[] encode(final Reader reader, final Charset charset) throws IOException {
-        return encode(IOStreams.toByteArray(reader, charset));
+        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            try (Writer writer = new OutputStreamWriter(encodeWarp(output), charset)) {
+                IOStreams.copy(reader, writer);
+            }
+            return output.toByteArray();
+        }
+    }
+
+    /**
+     * 将源文件内容进行base64编码后写入目标文件
+     * <p>
+     * 通过固定大小的缓冲区边读取边编码，内存占用与文件大小无关
+     *
+     * @param src  源文件路径
+     * @param dest 目标文件路径
+     * @throws IOException 如果发生I/O错误
+     */
+    public static void encode(final Path src, final Path dest) throws IOException {
+        try (InputStream in = java.nio.file.Files.newInputStream(src);
+             OutputStream out = encodeWarp(java.nio.file.Files.newOutputStream(dest))) {
+            IOStreams.copy(in, out);
+        }
     }
 
     /**
@@ -110,25 +258,46 @@ public final class Base64 {
 
     /**
      * 将输入流内容进行base64解码
+     * <p>
+     * 边读取边解码，不会先将输入流内容完整读入内存
      *
      * @param inputStream 输入流
      * @return 流内容的base64解码
      * @throws IOException 如果发生I/O错误
      */
     public static byte[] decode(final InputStream inputStream) throws IOException {
-        return decode(IOStreams.toByteArray(inputStream));
+        return IOStreams.toByteArray(decodeWarp(inputStream));
     }
 
     /**
      * 将阅读器内容进行base46解码
+     * <p>
+     * 边读取边解码，不会先将阅读器内容完整读入内存。base64编码内容只包含ASCII字符，
+     * 因此字符编码不影响解码结果
      *
      * @param reader  阅读器
      * @param charset 字符编码
      * @return 流内容的base64解码
-     * @throws IOException 如果发生I/O错误
+     * @throws IOException 如果发生I/O错误，或阅读器内容包含非ASCII字符
      */
     public static byte[] decode(final Reader reader, final Charset charset) throws IOException {
-        return decode(IOStreams.toByteArray(reader, charset));
+        return IOStreams.toByteArray(decodeWarp(new AsciiInputStream(reader)));
+    }
+
+    /**
+     * 将源文件的base64编码内容解码后写入目标文件
+     * <p>
+     * 通过固定大小的缓冲区边读取边解码，内存占用与文件大小无关
+     *
+     * @param src  源文件路径
+     * @param dest 目标文件路径
+     * @throws IOException 如果发生I/O错误
+     */
+    public static void decode(final Path src, final Path dest) throws IOException {
+        try (InputStream in = decodeWarp(java.nio.file.Files.newInputStream(src));
+             OutputStream out = java.nio.file.Files.newOutputStream(dest)) {
+            IOStreams.copy(in, out);
+        }
     }
 
     /**
@@ -182,7 +351,7 @@ public final class Base64 {
      * @throws IOException 如果发生I/O错误
      */
     public static String encodeToString(final InputStream inputStream, final Charset charset) throws IOException {
-        return new String(encode(IOStreams.toByteArray(inputStream)), charset);
+        return new String(encode(inputStream), charset);
     }
 
     /**
@@ -194,7 +363,7 @@ public final class Base64 {
      * @throws IOException 如果发生I/O错误
      */
     public static String encodeToString(final Reader reader, final Charset charset) throws IOException {
-        return new String(encode(IOStreams.toByteArray(reader, charset)), charset);
+        return new String(encode(reader, charset), charset);
     }
 
     /**
@@ -248,7 +417,7 @@ public final class Base64 {
      * @throws IOException 如果发生I/O错误
      */
     public static String decodeToString(final InputStream inputStream, final Charset charset) throws IOException {
-        return new String(decode(IOStreams.toByteArray(inputStream)), charset);
+        return new String(decode(inputStream), charset);
     }
 
     /**
@@ -260,17 +429,19 @@ public final class Base64 {
      * @throws IOException 如果发生I/O错误
      */
     public static String decodeToString(final Reader reader, final Charset charset) throws IOException {
-        return new String(decode(IOStreams.toByteArray(reader, charset)), charset);
+        return new String(decode(reader, charset), charset);
     }
 
     /**
      * 将字节数组的base64编码内容转换为输入流
+     * <p>
+     * 读取时才进行编码，不会预先生成完整的编码结果
      *
      * @param src 字节数组
      * @return base64编码内容的输入流
      */
     public static InputStream encodeToInputStream(byte[] src) {
-        return new ByteArrayInputStream(encode(src));
+        return encodeToInputStream(new ByteArrayInputStream(src));
     }
 
     /**
@@ -281,7 +452,19 @@ public final class Base64 {
      * @return base64编码内容的输入流
      */
     public static InputStream encodeToInputStream(String src, Charset charset) {
-        return new ByteArrayInputStream(encode(src.getBytes(charset)));
+        return encodeToInputStream(src.getBytes(charset));
+    }
+
+    /**
+     * 将输入流包装为其base64编码内容的输入流
+     * <p>
+     * 读取时才从源输入流读取并编码，内存占用固定；关闭返回的输入流时会关闭源输入流
+     *
+     * @param inputStream 源输入流
+     * @return base64编码内容的输入流
+     */
+    public static InputStream encodeToInputStream(InputStream inputStream) {
+        return new EncodingInputStream(inputStream);
     }
 
     /**
@@ -302,7 +485,7 @@ public final class Base64 {
      * @return base64解码内容的输入流
      */
     public static InputStream decodeToInputStream(String src, Charset charset) {
-        return new ByteArrayInputStream(decode(src.getBytes(charset)));
+        return decodeToInputStream(src.getBytes(charset));
     }
 
     /**
@@ -338,7 +521,7 @@ public final class Base64 {
      * @throws IOException 如果发生I/O错误
      */
     public static void decodeToOutputStream(byte[] src, OutputStream outputStream) throws IOException {
-        outputStream.write(encode(src));
+        outputStream.write(decode(src));
         outputStream.flush();
     }
 
@@ -351,7 +534,7 @@ public final class Base64 {
      * @throws IOException 如果发生I/O错误
      */
     public static void decodeToOutputStream(String src, Charset charset, OutputStream outputStream) throws IOException {
-        outputStream.write(encode(src.getBytes(charset)));
+        outputStream.write(decode(src.getBytes(charset)));
         outputStream.flush();
     }
 
@@ -525,4 +708,734 @@ public final class Base64 {
         return java.util.Base64.getDecoder().wrap(inputStream);
     }
 
+    /**
+     * 读取时进行base64编码的输入流
+     */
+    private static final class EncodingInputStream extends InputStream {
+
+        private final InputStream in;
+        private final byte[] src = new byte[ENCODE_CHUNK_SIZE];
+        private final byte[] buffer = new byte[ENCODE_CHUNK_SIZE / 3 * 4];
+        private int pos;
+        private int limit;
+        private boolean eof;
+
+        private EncodingInputStream(final InputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (pos == limit && !fill()) {
+                return -1;
+            }
+            return buffer[pos++] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (len == 0) {
+                return 0;
+            }
+            if (pos == limit && !fill()) {
+                return -1;
+            }
+            final int n = Math.min(len, limit - pos);
+            System.arraycopy(buffer, pos, b, off, n);
+            pos += n;
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return limit - pos;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        /**
+         * 读取下一块源数据并编码到缓冲区，只有最后一块的长度可能不是3的整数倍
+         */
+        private boolean fill() throws IOException {
+            if (eof) {
+                return false;
+            }
+            final int n = IOStreams.read(in, src, 0, src.length);
+            if (n < src.length) {
+                eof = true;
+                if (n == 0) {
+                    return false;
+                }
+                limit = java.util.Base64.getEncoder().encode(Arrays.copyOf(src, n), buffer);
+            } else {
+                limit = java.util.Base64.getEncoder().encode(src, buffer);
+            }
+            pos = 0;
+            return true;
+        }
+    }
+
+    /**
+     * 将阅读器中的ASCII字符逐个转换为字节的输入流
+     */
+    private static final class AsciiInputStream extends InputStream {
+
+        private final Reader reader;
+        private final char[] buffer = new char[IOStreams.DEFAULT_BUFFER_SIZE];
+
+        private AsciiInputStream(final Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int c = reader.read();
+            return c == -1 ? -1 : toAscii(c);
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (len == 0) {
+                return 0;
+            }
+            final int n = reader.read(buffer, 0, Math.min(len, buffer.length));
+            for (int i = 0; i < n; i++) {
+                b[off + i] = (byte) toAscii(buffer[i]);
+            }
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        private static int toAscii(final int c) throws IOException {
+            if (c > 0x7F) {
+                throw new IOException("Illegal base64 character " + Integer.toString(c, 16));
+            }
+            return c;
+        }
+    }
+
+    /**
+     * 可复用的base64编解码器，线程安全
+     * <p>
+     * 除了返回新数组的{@link #encode(byte[])}、{@link #decode(byte[])}，还支持直接编解码到调用方提供的
+     * 字节数组或{@link ByteBuffer}，配合{@link #encodedLength(int)}、{@link #decodedLength(byte[], int, int)}
+     * 可以完全避免中间数组的分配
+     * <pre>
+     *     Base64.Codec codec = Base64.urlSafeCodec().withoutPadding();
+     *     byte[] dst = new byte[codec.encodedLength(src.length)];
+     *     codec.encode(src, 0, src.length, dst, 0);
+     * </pre>
+     */
+    public static final class Codec implements StreamingCodec {
+
+        private static final byte[] BASIC_ALPHABET = {
+                'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'I', 'J', 'K', 'L', 'M',
+                'N', 'O', 'P', 'Q', 'R', 'S', 'T', 'U', 'V', 'W', 'X', 'Y', 'Z',
+                'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j', 'k', 'l', 'm',
+                'n', 'o', 'p', 'q', 'r', 's', 't', 'u', 'v', 'w', 'x', 'y', 'z',
+                '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', '+', '/'
+        };
+
+        private static final byte[] URL_SAFE_ALPHABET = {
+                'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'I', 'J', 'K', 'L', 'M',
+                'N', 'O', 'P', 'Q', 'R', 'S', 'T', 'U', 'V', 'W', 'X', 'Y', 'Z',
+                'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j', 'k', 'l', 'm',
+                'n', 'o', 'p', 'q', 'r', 's', 't', 'u', 'v', 'w', 'x', 'y', 'z',
+                '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', '-', '_'
+        };
+
+        private static final int[] FROM_BASIC_ALPHABET = fromAlphabet(BASIC_ALPHABET);
+
+        private static final int[] FROM_URL_SAFE_ALPHABET = fromAlphabet(URL_SAFE_ALPHABET);
+
+        /**
+         * MIME格式每行最大字符数
+         */
+        private static final int MIME_LINE_MAX = 76;
+
+        private static final byte PAD = '=';
+
+        /**
+         * 直接缓冲区分块编码时每块的字节数，为MIME整行（57字节）的倍数；编码结果写在临时数组的这一位置之后
+         */
+        private static final int ENCODE_CHUNK = MIME_LINE_MAX / 4 * 3 * 48;
+
+        /**
+         * 直接缓冲区分块解码时每块的字节数；解码结果写在临时数组的这一位置之后
+         */
+        private static final int DECODE_CHUNK = 4096;
+
+        private static final int SCRATCH_SIZE = IOStreams.DEFAULT_BUFFER_SIZE;
+
+        /**
+         * 直接缓冲区编解码使用的临时数组和解码状态，每个线程复用一个，避免每次调用分配
+         */
+        private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+        static final Codec BASIC = new Codec(BASIC_ALPHABET, FROM_BASIC_ALPHABET, false, true);
+
+        static final Codec URL_SAFE = new Codec(URL_SAFE_ALPHABET, FROM_URL_SAFE_ALPHABET, false, true);
+
+        static final Codec MIME = new Codec(BASIC_ALPHABET, FROM_BASIC_ALPHABET, true, true);
+
+        private final byte[] alphabet;
+        private final int[] fromAlphabet;
+        private final boolean mime;
+        private final boolean padding;
+        private final java.util.Base64.Encoder streamEncoder;
+        private final java.util.Base64.Decoder streamDecoder;
+
+        private Codec(final byte[] alphabet, final int[] fromAlphabet, final boolean mime, final boolean padding) {
+            this.alphabet = alphabet;
+            this.fromAlphabet = fromAlphabet;
+            this.mime = mime;
+            this.padding = padding;
+            java.util.Base64.Encoder encoder;
+            if (mime) {
+                encoder = java.util.Base64.getMimeEncoder();
+                this.streamDecoder = java.util.Base64.getMimeDecoder();
+            } else if (alphabet == URL_SAFE_ALPHABET) {
+                encoder = java.util.Base64.getUrlEncoder();
+                this.streamDecoder = java.util.Base64.getUrlDecoder();
+            } else {
+                encoder = java.util.Base64.getEncoder();
+                this.streamDecoder = java.util.Base64.getDecoder();
+            }
+            this.streamEncoder = padding ? encoder : encoder.withoutPadding();
+        }
+
+        /**
+         * 构建字符到6位值的反查表，{@code =}为-2，其它非法字符为-1
+         */
+        private static int[] fromAlphabet(final byte[] alphabet) {
+            final int[] table = new int[256];
+            Arrays.fill(table, -1);
+            for (int i = 0; i < alphabet.length; i++) {
+                table[alphabet[i]] = i;
+            }
+            table[PAD] = -2;
+            return table;
+        }
+
+        /**
+         * 获取编码时不填充{@code =}的编解码器，解码时仍然接受带填充的内容
+         *
+         * @return 不填充的编解码器
+         */
+        public Codec withoutPadding() {
+            return padding ? new Codec(alphabet, fromAlphabet, mime, false) : this;
+        }
+
+        /**
+         * 计算编码后的字节长度
+         *
+         * @param srcLen 源字节长度
+         * @return 编码后字节长度
+         * @throws IllegalArgumentException 如果编码后长度超出int范围
+         */
+        public int encodedLength(final int srcLen) {
+            long len = padding ? 4L * ((srcLen + 2L) / 3) : 4L * (srcLen / 3) + (srcLen % 3 == 0 ? 0 : srcLen % 3 + 1);
+            if (mime && len > 0) {
+                len += (len - 1) / MIME_LINE_MAX * 2;
+            }
+            if (len > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Input array too large: " + srcLen);
+            }
+            return (int) len;
+        }
+
+        /**
+         * 计算编码内容解码后的字节长度，对于合法的编码内容结果是精确的
+         *
+         * @param src    编码字节数组
+         * @param srcOff 编码内容起始位置
+         * @param srcLen 编码内容长度
+         * @return 解码后字节长度
+         */
+        public int decodedLength(final byte[] src, final int srcOff, final int srcLen) {
+            checkRange(srcOff, srcLen, src.length);
+            final int end = srcOff + srcLen;
+            final int n = mime ? countAlphabet(src, srcOff, end) : srcLen - paddingLength(src, srcOff, end);
+            return decodedLength(n & Integer.MAX_VALUE);
+        }
+
+        /**
+         * 由编码字符数（不含填充和换行）计算解码后的字节数
+         */
+        private static int decodedLength(final int n) {
+            return n / 4 * 3 + (n % 4 == 0 ? 0 : n % 4 - 1);
+        }
+
+        /**
+         * 统计编码字符数，遇到填充字符时停止并将结果的最高位置1
+         */
+        private int countAlphabet(final byte[] src, final int from, final int to) {
+            int n = 0;
+            for (int i = from; i < to; i++) {
+                final int b = fromAlphabet[src[i] & 0xFF];
+                if (b == -2) {
+                    return n | Integer.MIN_VALUE;
+                }
+                if (b >= 0) {
+                    n++;
+                }
+            }
+            return n;
+        }
+
+        /**
+         * 末尾填充字符的数量，最多2个
+         */
+        private static int paddingLength(final byte[] src, final int from, final int to) {
+            if (to > from && src[to - 1] == PAD) {
+                return to - 1 > from && src[to - 2] == PAD ? 2 : 1;
+            }
+            return 0;
+        }
+
+        /**
+         * 编码到调用方提供的字节数组
+         *
+         * @param src    源字节数组
+         * @param srcOff 源字节起始位置
+         * @param srcLen 源字节长度
+         * @param dst    目标字节数组
+         * @param dstOff 目标字节数组写入起始位置
+         * @return 写入的字节数
+         * @throws IllegalArgumentException 如果目标字节数组空间不足
+         */
+        public int encode(final byte[] src, final int srcOff, final int srcLen, final byte[] dst, final int dstOff) {
+            checkRange(srcOff, srcLen, src.length);
+            final int len = encodedLength(srcLen);
+            if (dstOff < 0 || dst.length - dstOff < len) {
+                throw new IllegalArgumentException("Output array is not large enough to accommodate encoded data.");
+            }
+            final byte[] base64 = alphabet;
+            final int end = srcOff + srcLen;
+            final int fullEnd = srcOff + srcLen / 3 * 3;
+            int sp = srcOff;
+            int dp = dstOff;
+            int lineLen = 0;
+            while (sp < fullEnd) {
+                if (mime && lineLen == MIME_LINE_MAX) {
+                    dst[dp++] = '\r';
+                    dst[dp++] = '\n';
+                    lineLen = 0;
+                }
+                final int bits = (src[sp++] & 0xFF) << 16 | (src[sp++] & 0xFF) << 8 | (src[sp++] & 0xFF);
+                dst[dp++] = base64[(bits >>> 18) & 0x3F];
+                dst[dp++] = base64[(bits >>> 12) & 0x3F];
+                dst[dp++] = base64[(bits >>> 6) & 0x3F];
+                dst[dp++] = base64[bits & 0x3F];
+                lineLen += 4;
+            }
+            if (sp < end) {
+                if (mime && lineLen == MIME_LINE_MAX) {
+                    dst[dp++] = '\r';
+                    dst[dp++] = '\n';
+                }
+                final int b0 = src[sp++] & 0xFF;
+                dst[dp++] = base64[b0 >> 2];
+                if (sp == end) {
+                    dst[dp++] = base64[(b0 << 4) & 0x3F];
+                    if (padding) {
+                        dst[dp++] = PAD;
+                        dst[dp++] = PAD;
+                    }
+                } else {
+                    final int b1 = src[sp] & 0xFF;
+                    dst[dp++] = base64[(b0 << 4) & 0x3F | (b1 >> 4)];
+                    dst[dp++] = base64[(b1 << 2) & 0x3F];
+                    if (padding) {
+                        dst[dp++] = PAD;
+                    }
+                }
+            }
+            return dp - dstOff;
+        }
+
+        /**
+         * 编码{@code src}剩余的全部字节并写入{@code dst}，两个缓冲区的position都会相应前移
+         *
+         * @param src 源字节缓冲区
+         * @param dst 目标字节缓冲区
+         * @return 写入的字节数
+         * @throws IllegalArgumentException 如果目标缓冲区空间不足
+         */
+        public int encode(final ByteBuffer src, final ByteBuffer dst) {
+            final int len = encodedLength(src.remaining());
+            if (dst.remaining() < len) {
+                throw new IllegalArgumentException("Output buffer is not large enough to accommodate encoded data.");
+            }
+            if (src.hasArray() && dst.hasArray()) {
+                final int n = encode(src.array(), src.arrayOffset() + src.position(), src.remaining(),
+                        dst.array(), dst.arrayOffset() + dst.position());
+                src.position(src.limit());
+                dst.position(dst.position() + n);
+                return n;
+            }
+            // 非堆缓冲区经线程私有的临时数组分块编码；块大小为整行，保证MIME换行位置正确
+            final byte[] scratch = SCRATCH.get().buffer;
+            int written = 0;
+            while (src.hasRemaining()) {
+                final int n = Math.min(src.remaining(), ENCODE_CHUNK);
+                src.get(scratch, 0, n);
+                final int m = encode(scratch, 0, n, scratch, ENCODE_CHUNK);
+                if (mime && written > 0) {
+                    dst.put((byte) '\r').put((byte) '\n');
+                    written += 2;
+                }
+                dst.put(scratch, ENCODE_CHUNK, m);
+                written += m;
+            }
+            return written;
+        }
+
+        /**
+         * 解码到调用方提供的字节数组
+         *
+         * @param src    编码字节数组
+         * @param srcOff 编码内容起始位置
+         * @param srcLen 编码内容长度
+         * @param dst    目标字节数组
+         * @param dstOff 目标字节数组写入起始位置
+         * @return 写入的字节数
+         * @throws IllegalArgumentException 如果编码内容不合法或目标字节数组空间不足
+         */
+        public int decode(final byte[] src, final int srcOff, final int srcLen, final byte[] dst, final int dstOff) {
+            final int len = decodedLength(src, srcOff, srcLen);
+            if (dstOff < 0 || dst.length - dstOff < len) {
+                throw new IllegalArgumentException("Output array is not large enough to accommodate decoded data.");
+            }
+            return decode(src, srcOff, srcOff + srcLen, dst, dstOff, null, true) - dstOff;
+        }
+
+        /**
+         * 解码状态机，{@link #decode(byte[], int, int, byte[], int)}一次处理全部内容，
+         * 直接缓冲区分块处理时通过state在块之间延续未输出的位和填充状态
+         *
+         * @param state 分块解码的状态，为{@code null}时表示从头开始且只有一块
+         * @param last  是否为最后一块
+         * @return 写入结束位置
+         */
+        private int decode(final byte[] src, int sp, final int end, final byte[] dst, int dp,
+                           final Scratch state, final boolean last) {
+            final int[] base64 = fromAlphabet;
+            final int offset = state == null ? 0 : state.offset;
+            int bits = state == null ? 0 : state.bits;
+            int shiftTo = state == null ? 18 : state.shiftTo;
+            int phase = state == null ? Scratch.DATA : state.phase;
+            if (phase == Scratch.SECOND_PAD && sp < end) {
+                if (src[sp++] != PAD) {
+                    throw new IllegalArgumentException("Input byte array has wrong 4-byte ending unit");
+                }
+                phase = Scratch.TRAILING;
+            }
+            while (phase == Scratch.DATA && sp < end) {
+                int b = src[sp++] & 0xFF;
+                if ((b = base64[b]) < 0) {
+                    if (b == -2) {
+                        // 一个单元内只剩2个字符时需要两个填充字符
+                        if (shiftTo == 18) {
+                            throw new IllegalArgumentException("Input byte array has wrong 4-byte ending unit");
+                        }
+                        if (shiftTo == 12) {
+                            throw new IllegalArgumentException("Last unit does not have enough valid bits");
+                        }
+                        dst[dp++] = (byte) (bits >> 16);
+                        if (shiftTo == 0) {
+                            dst[dp++] = (byte) (bits >> 8);
+                            phase = Scratch.TRAILING;
+                        } else if (sp < end) {
+                            if (src[sp++] != PAD) {
+                                throw new IllegalArgumentException("Input byte array has wrong 4-byte ending unit");
+                            }
+                            phase = Scratch.TRAILING;
+                        } else if (last) {
+                            throw new IllegalArgumentException("Input byte array has wrong 4-byte ending unit");
+                        } else {
+                            phase = Scratch.SECOND_PAD;
+                        }
+                        bits = 0;
+                        shiftTo = 18;
+                        break;
+                    }
+                    if (mime) {
+                        continue;
+                    }
+                    throw new IllegalArgumentException("Illegal base64 character " + Integer.toString(src[sp - 1], 16));
+                }
+                bits |= b << shiftTo;
+                shiftTo -= 6;
+                if (shiftTo < 0) {
+                    dst[dp++] = (byte) (bits >> 16);
+                    dst[dp++] = (byte) (bits >> 8);
+                    dst[dp++] = (byte) bits;
+                    shiftTo = 18;
+                    bits = 0;
+                }
+            }
+            if (phase == Scratch.TRAILING) {
+                while (sp < end) {
+                    if (mime && base64[src[sp++] & 0xFF] < 0) {
+                        continue;
+                    }
+                    throw new IllegalArgumentException("Input byte array has incorrect ending byte at " + (sp + offset));
+                }
+            }
+            if (last) {
+                if (phase == Scratch.SECOND_PAD) {
+                    throw new IllegalArgumentException("Input byte array has wrong 4-byte ending unit");
+                }
+                if (shiftTo == 6) {
+                    dst[dp++] = (byte) (bits >> 16);
+                } else if (shiftTo == 0) {
+                    dst[dp++] = (byte) (bits >> 16);
+                    dst[dp++] = (byte) (bits >> 8);
+                } else if (shiftTo == 12) {
+                    throw new IllegalArgumentException("Last unit does not have enough valid bits");
+                }
+            }
+            if (state != null) {
+                state.bits = bits;
+                state.shiftTo = shiftTo;
+                state.phase = phase;
+            }
+            return dp;
+        }
+
+        /**
+         * 解码{@code src}剩余的全部字节并写入{@code dst}，两个缓冲区的position都会相应前移
+         *
+         * @param src 编码字节缓冲区
+         * @param dst 目标字节缓冲区
+         * @return 写入的字节数
+         * @throws IllegalArgumentException 如果编码内容不合法或目标缓冲区空间不足
+         */
+        public int decode(final ByteBuffer src, final ByteBuffer dst) {
+            if (src.hasArray() && dst.hasArray()) {
+                final int inLen = src.remaining();
+                final int n = decode(src.array(), src.arrayOffset() + src.position(), inLen,
+                        dst.array(), dst.arrayOffset() + dst.position());
+                src.position(src.limit());
+                dst.position(dst.position() + n);
+                return n;
+            }
+            // 非堆缓冲区经线程私有的临时数组分块解码
+            final Scratch state = SCRATCH.get().reset();
+            final byte[] scratch = state.buffer;
+            if (dst.remaining() < decodedLength(src, scratch)) {
+                throw new IllegalArgumentException("Output buffer is not large enough to accommodate decoded data.");
+            }
+            int written = 0;
+            while (src.hasRemaining()) {
+                final int n = Math.min(src.remaining(), DECODE_CHUNK);
+                state.offset = src.position();
+                src.get(scratch, 0, n);
+                final int m = decode(scratch, 0, n, scratch, DECODE_CHUNK, state, !src.hasRemaining()) - DECODE_CHUNK;
+                dst.put(scratch, DECODE_CHUNK, m);
+                written += m;
+            }
+            return written;
+        }
+
+        /**
+         * 与{@link #decodedLength(byte[], int, int)}相同，经临时数组分块读取，不改变缓冲区的position
+         */
+        private int decodedLength(final ByteBuffer src, final byte[] scratch) {
+            final ByteBuffer in = src.duplicate();
+            if (!mime) {
+                final int tail = Math.min(in.remaining(), 2);
+                in.position(in.limit() - tail);
+                in.get(scratch, 0, tail);
+                return decodedLength(src.remaining() - paddingLength(scratch, 0, tail));
+            }
+            int n = 0;
+            while (in.hasRemaining()) {
+                final int len = Math.min(in.remaining(), SCRATCH_SIZE);
+                in.get(scratch, 0, len);
+                final int count = countAlphabet(scratch, 0, len);
+                n += count & Integer.MAX_VALUE;
+                if (count < 0) {
+                    break;
+                }
+            }
+            return decodedLength(n);
+        }
+
+        /**
+         * 编码为新的字节数组
+         *
+         * @param source 源字节数组
+         * @return 编码后字节数组
+         */
+        @Override
+        public byte[] encode(final byte[] source) {
+            final byte[] dst = new byte[encodedLength(source.length)];
+            encode(source, 0, source.length, dst, 0);
+            return dst;
+        }
+
+        /**
+         * 编码为字符串
+         *
+         * @param source 源字节数组
+         * @return 编码后字符串
+         */
+        public String encodeToString(final byte[] source) {
+            return new String(encode(source), StandardCharsets.ISO_8859_1);
+        }
+
+        /**
+         * 编码字节数组、{@link ByteBuffer}或字符串（UTF-8），返回编码后的字节数组
+         *
+         * @param source 要编码的对象
+         * @return 编码后字节数组
+         * @throws EncoderException 如果对象类型不支持
+         */
+        @Override
+        public Object encode(final Object source) throws EncoderException {
+            if (source instanceof byte[]) {
+                return encode((byte[]) source);
+            } else if (source instanceof ByteBuffer) {
+                final ByteBuffer buffer = (ByteBuffer) source;
+                final ByteBuffer dst = ByteBuffer.allocate(encodedLength(buffer.remaining()));
+                encode(buffer, dst);
+                return dst.array();
+            } else if (source instanceof String) {
+                return encode(((String) source).getBytes(StandardCharsets.UTF_8));
+            }
+            throw new EncoderException("Parameter supplied to Base64 encode is not a byte[], ByteBuffer or String");
+        }
+
+        /**
+         * 解码为新的字节数组
+         *
+         * @param source 编码字节数组
+         * @return 解码后字节数组
+         * @throws DecoderException 如果编码内容不合法
+         */
+        @Override
+        public byte[] decode(final byte[] source) throws DecoderException {
+            try {
+                final byte[] dst = new byte[decodedLength(source, 0, source.length)];
+                final int n = decode(source, 0, source.length, dst, 0);
+                return n == dst.length ? dst : Arrays.copyOf(dst, n);
+            } catch (IllegalArgumentException e) {
+                throw new DecoderException(e.getMessage(), e);
+            }
+        }
+
+        /**
+         * 解码字节数组、{@link ByteBuffer}或字符串，返回解码后的字节数组
+         *
+         * @param source 要解码的对象
+         * @return 解码后字节数组
+         * @throws DecoderException 如果对象类型不支持或编码内容不合法
+         */
+        @Override
+        public Object decode(final Object source) throws DecoderException {
+            if (source instanceof byte[]) {
+                return decode((byte[]) source);
+            } else if (source instanceof ByteBuffer) {
+                final ByteBuffer buffer = ((ByteBuffer) source).slice();
+                final byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                return decode(bytes);
+            } else if (source instanceof String) {
+                return decode(((String) source).getBytes(StandardCharsets.ISO_8859_1));
+            }
+            throw new DecoderException("Parameter supplied to Base64 decode is not a byte[], ByteBuffer or String");
+        }
+
+        /**
+         * 对输出流进行编码包装，关闭返回的输出流时会填充并关闭{@code out}
+         *
+         * @param out 输出流
+         * @return 编码包装后的输出流
+         * @see java.util.Base64.Encoder#wrap(OutputStream)
+         */
+        @Override
+        public OutputStream encodingStream(final OutputStream out) {
+            return streamEncoder.wrap(out);
+        }
+
+        /**
+         * 对输入流进行解码包装
+         *
+         * @param in 输入流
+         * @return 解码包装后的输入流
+         * @see java.util.Base64.Decoder#wrap(InputStream)
+         */
+        @Override
+        public InputStream decodingStream(final InputStream in) {
+            return streamDecoder.wrap(in);
+        }
+
+        /**
+         * 直接缓冲区分块编解码的临时数组，以及在块之间延续的解码状态
+         */
+        private static final class Scratch {
+
+            static final int DATA = 0;
+
+            /**
+             * 读到一个填充字符，下一个字节必须也是填充字符
+             */
+            static final int SECOND_PAD = 1;
+
+            /**
+             * 填充结束，之后只允许出现MIME忽略的字符
+             */
+            static final int TRAILING = 2;
+
+            /**
+             * 已读取尚未输出的位
+             */
+            int bits;
+            int shiftTo = 18;
+            int phase = DATA;
+
+            /**
+             * 临时数组下标到缓冲区位置的偏移，用于错误信息
+             */
+            int offset;
+
+            final byte[] buffer = new byte[SCRATCH_SIZE];
+
+            Scratch reset() {
+                bits = 0;
+                shiftTo = 18;
+                phase = DATA;
+                offset = 0;
+                return this;
+            }
+        }
+
+        private static void checkRange(final int off, final int len, final int length) {
+            if ((off | len | (off + len) | (length - (off + len))) < 0) {
+                throw new IndexOutOfBoundsException("Range [" + off + ", " + off + " + " + len + ") out of bounds for length " + length);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Base64.Codec[" + (alphabet == URL_SAFE_ALPHABET ? "url" : mime ? "mime" : "basic")
+                    + (padding ? "" : ", withoutPadding") + "]";
+        }
+    }
+
 }
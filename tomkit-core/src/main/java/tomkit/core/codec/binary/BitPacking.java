@@ -0,0 +1,372 @@
+package tomkit.core.codec.binary;
+
+import tomkit.core.codec.DecoderException;
+import tomkit.core.lang.Assert;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 整数数组位压缩（frame-of-reference bit-packing）工具类
+ * <p>
+ * 数组按每{@value #BLOCK_SIZE}个值分块，每块记录最小值和位宽，块内每个值只保存与最小值之差的低位。
+ * 取值集中的数组（状态码、同一时段的时间戳）每个值只需几位。有序数组可以先取差值再压缩，
+ * 位宽取决于相邻两个值的最大间隔。与{@link VarInts}相比，解码没有逐字节的分支，速度更快，
+ * 但一个离群值会使整块的位宽变大
+ * <p>
+ * 每块的格式：最小值的zigzag varint、位宽（1个字节）、按位宽紧密排列的值，以大端序的long为单位写入，
+ * 与缓冲区的字节序无关。值的数量不写入，由调用方记录
+ *
+ * <pre class="code">
+ *     ByteBuffer buffer = ByteBuffer.allocate(BitPacking.maxPackedLength(timestamps.length));
+ *     BitPacking.packDeltas(buffer, timestamps, 0, timestamps.length);
+ *     buffer.flip();
+ *     BitPacking.unpackDeltas(buffer, decoded, 0, timestamps.length);
+ * </pre>
+ *
+ * @author yh
+ * @since 2026/10/18
+ * @see VarInts
+ */
+public final class BitPacking {
+
+    /**
+     * 每块的值数量
+     */
+    public static final int BLOCK_SIZE = 128;
+
+    private BitPacking() {
+    }
+
+    /**
+     * 计算压缩length个int最多需要的字节数
+     *
+     * @param length 值的数量
+     * @return 最大字节数
+     */
+    public static int maxPackedLength(final int length) {
+        return maxPackedLength(length, Integer.SIZE, VarInts.MAX_VARINT_LENGTH);
+    }
+
+    /**
+     * 计算压缩length个long最多需要的字节数
+     *
+     * @param length 值的数量
+     * @return 最大字节数
+     */
+    public static int maxPackedLongLength(final int length) {
+        return maxPackedLength(length, Long.SIZE, VarInts.MAX_VARLONG_LENGTH);
+    }
+
+    /**
+     * 压缩数组片段
+     *
+     * @param buffer 目标
+     * @param values 数组
+     * @param offset 起始位置
+     * @param length 数量
+     * @throws java.nio.BufferOverflowException 剩余空间不足时抛出，此时已写入部分数据
+     */
+    public static void pack(final ByteBuffer buffer, final int[] values, final int offset, final int length) {
+        VarInts.checkFromIndexSize(offset, length, values.length);
+        for (int i = offset, end = offset + length; i < end; i += BLOCK_SIZE) {
+            packBlock(buffer, values, i, Math.min(BLOCK_SIZE, end - i));
+        }
+    }
+
+    /**
+     * 先取相邻两个值（第一个值与0）之差，再压缩数组片段，适合有序数组
+     *
+     * @param buffer 目标
+     * @param values 数组
+     * @param offset 起始位置
+     * @param length 数量
+     * @throws java.nio.BufferOverflowException 剩余空间不足时抛出，此时已写入部分数据
+     */
+    public static void packDeltas(final ByteBuffer buffer, final int[] values, final int offset, final int length) {
+        VarInts.checkFromIndexSize(offset, length, values.length);
+        final int[] deltas = new int[Math.min(BLOCK_SIZE, length)];
+        int previous = 0;
+        for (int i = offset, end = offset + length; i < end; i += BLOCK_SIZE) {
+            final int n = Math.min(BLOCK_SIZE, end - i);
+            for (int j = 0; j < n; j++) {
+                final int value = values[i + j];
+                deltas[j] = value - previous;
+                previous = value;
+            }
+            packBlock(buffer, deltas, 0, n);
+        }
+    }
+
+    /**
+     * 解压{@link #pack(ByteBuffer, int[], int, int)}写入的数组片段
+     *
+     * @param buffer 来源
+     * @param dst    目标数组
+     * @param offset 起始位置
+     * @param length 数量，与压缩时一致
+     * @throws DecoderException                  数据格式错误时抛出
+     * @throws java.nio.BufferUnderflowException 数据不完整时抛出
+     */
+    public static void unpack(final ByteBuffer buffer, final int[] dst, final int offset, final int length)
+            throws DecoderException {
+        VarInts.checkFromIndexSize(offset, length, dst.length);
+        for (int i = offset, end = offset + length; i < end; i += BLOCK_SIZE) {
+            unpackBlock(buffer, dst, i, Math.min(BLOCK_SIZE, end - i));
+        }
+    }
+
+    /**
+     * 解压{@link #packDeltas(ByteBuffer, int[], int, int)}写入的数组片段
+     *
+     * @param buffer 来源
+     * @param dst    目标数组
+     * @param offset 起始位置
+     * @param length 数量，与压缩时一致
+     * @throws DecoderException                  数据格式错误时抛出
+     * @throws java.nio.BufferUnderflowException 数据不完整时抛出
+     */
+    public static void unpackDeltas(final ByteBuffer buffer, final int[] dst, final int offset, final int length)
+            throws DecoderException {
+        unpack(buffer, dst, offset, length);
+        int previous = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            previous += dst[i];
+            dst[i] = previous;
+        }
+    }
+
+    /**
+     * 压缩数组片段
+     *
+     * @param buffer 目标
+     * @param values 数组
+     * @param offset 起始位置
+     * @param length 数量
+     * @throws java.nio.BufferOverflowException 剩余空间不足时抛出，此时已写入部分数据
+     */
+    public static void pack(final ByteBuffer buffer, final long[] values, final int offset, final int length) {
+        VarInts.checkFromIndexSize(offset, length, values.length);
+        for (int i = offset, end = offset + length; i < end; i += BLOCK_SIZE) {
+            packBlock(buffer, values, i, Math.min(BLOCK_SIZE, end - i));
+        }
+    }
+
+    /**
+     * 先取相邻两个值（第一个值与0）之差，再压缩数组片段，适合有序数组
+     *
+     * @param buffer 目标
+     * @param values 数组
+     * @param offset 起始位置
+     * @param length 数量
+     * @throws java.nio.BufferOverflowException 剩余空间不足时抛出，此时已写入部分数据
+     */
+    public static void packDeltas(final ByteBuffer buffer, final long[] values, final int offset, final int length) {
+        VarInts.checkFromIndexSize(offset, length, values.length);
+        final long[] deltas = new long[Math.min(BLOCK_SIZE, length)];
+        long previous = 0;
+        for (int i = offset, end = offset + length; i < end; i += BLOCK_SIZE) {
+            final int n = Math.min(BLOCK_SIZE, end - i);
+            for (int j = 0; j < n; j++) {
+                final long value = values[i + j];
+                deltas[j] = value - previous;
+                previous = value;
+            }
+            packBlock(buffer, deltas, 0, n);
+        }
+    }
+
+    /**
+     * 解压{@link #pack(ByteBuffer, long[], int, int)}写入的数组片段
+     *
+     * @param buffer 来源
+     * @param dst    目标数组
+     * @param offset 起始位置
+     * @param length 数量，与压缩时一致
+     * @throws DecoderException                  数据格式错误时抛出
+     * @throws java.nio.BufferUnderflowException 数据不完整时抛出
+     */
+    public static void unpack(final ByteBuffer buffer, final long[] dst, final int offset, final int length)
+            throws DecoderException {
+        VarInts.checkFromIndexSize(offset, length, dst.length);
+        for (int i = offset, end = offset + length; i < end; i += BLOCK_SIZE) {
+            unpackBlock(buffer, dst, i, Math.min(BLOCK_SIZE, end - i));
+        }
+    }
+
+    /**
+     * 解压{@link #packDeltas(ByteBuffer, long[], int, int)}写入的数组片段
+     *
+     * @param buffer 来源
+     * @param dst    目标数组
+     * @param offset 起始位置
+     * @param length 数量，与压缩时一致
+     * @throws DecoderException                  数据格式错误时抛出
+     * @throws java.nio.BufferUnderflowException 数据不完整时抛出
+     */
+    public static void unpackDeltas(final ByteBuffer buffer, final long[] dst, final int offset, final int length)
+            throws DecoderException {
+        unpack(buffer, dst, offset, length);
+        long previous = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            previous += dst[i];
+            dst[i] = previous;
+        }
+    }
+
+    private static int maxPackedLength(final int length, final int bits, final int maxHeaderLength) {
+        Assert.checkArgument(length >= 0, "Invalid length: " + length);
+        final long blocks = (length + (long) BLOCK_SIZE - 1) / BLOCK_SIZE;
+        // 每块的值按long对齐，最多多出一个long
+        final long max = (long) length * (bits / Byte.SIZE) + blocks * (maxHeaderLength + 1 + Long.BYTES);
+        Assert.checkArgument(max <= Integer.MAX_VALUE, "length too large: " + length);
+        return (int) max;
+    }
+
+    private static void packBlock(final ByteBuffer buffer, final int[] values, final int from, final int n) {
+        final int end = from + n;
+        int min = values[from];
+        for (int i = from + 1; i < end; i++) {
+            min = Math.min(min, values[i]);
+        }
+        // 与最小值之差按无符号数处理，不会溢出
+        int or = 0;
+        for (int i = from; i < end; i++) {
+            or |= values[i] - min;
+        }
+        final int bits = Integer.SIZE - Integer.numberOfLeadingZeros(or);
+        VarInts.writeVarInt(buffer, VarInts.zigZagEncode(min));
+        buffer.put((byte) bits);
+        if (bits == 0) {
+            return;
+        }
+        long word = 0;
+        int used = 0;
+        for (int i = from; i < end; i++) {
+            final long value = (values[i] - min) & 0xFFFFFFFFL;
+            word |= value << used;
+            used += bits;
+            if (used >= Long.SIZE) {
+                putLong(buffer, word);
+                used -= Long.SIZE;
+                // 放不下的高位留给下一个long
+                word = used == 0 ? 0 : value >>> (bits - used);
+            }
+        }
+        if (used > 0) {
+            putLong(buffer, word);
+        }
+    }
+
+    private static void packBlock(final ByteBuffer buffer, final long[] values, final int from, final int n) {
+        final int end = from + n;
+        long min = values[from];
+        for (int i = from + 1; i < end; i++) {
+            min = Math.min(min, values[i]);
+        }
+        long or = 0;
+        for (int i = from; i < end; i++) {
+            or |= values[i] - min;
+        }
+        final int bits = Long.SIZE - Long.numberOfLeadingZeros(or);
+        VarInts.writeVarLong(buffer, VarInts.zigZagEncode(min));
+        buffer.put((byte) bits);
+        if (bits == 0) {
+            return;
+        }
+        long word = 0;
+        int used = 0;
+        for (int i = from; i < end; i++) {
+            final long value = values[i] - min;
+            word |= value << used;
+            used += bits;
+            if (used >= Long.SIZE) {
+                putLong(buffer, word);
+                used -= Long.SIZE;
+                word = used == 0 ? 0 : value >>> (bits - used);
+            }
+        }
+        if (used > 0) {
+            putLong(buffer, word);
+        }
+    }
+
+    private static void unpackBlock(final ByteBuffer buffer, final int[] dst, final int from, final int n)
+            throws DecoderException {
+        final int min = VarInts.zigZagDecode(VarInts.readVarInt(buffer));
+        final int bits = readBits(buffer, Integer.SIZE);
+        final int end = from + n;
+        if (bits == 0) {
+            for (int i = from; i < end; i++) {
+                dst[i] = min;
+            }
+            return;
+        }
+        final long mask = (1L << bits) - 1;
+        long word = getLong(buffer);
+        int available = Long.SIZE;
+        for (int i = from; i < end; i++) {
+            final long value;
+            if (available >= bits) {
+                value = word & mask;
+                word >>>= bits;
+                available -= bits;
+            } else {
+                final long next = getLong(buffer);
+                value = (word | next << available) & mask;
+                word = next >>> (bits - available);
+                available += Long.SIZE - bits;
+            }
+            dst[i] = min + (int) value;
+        }
+    }
+
+    private static void unpackBlock(final ByteBuffer buffer, final long[] dst, final int from, final int n)
+            throws DecoderException {
+        final long min = VarInts.zigZagDecode(VarInts.readVarLong(buffer));
+        final int bits = readBits(buffer, Long.SIZE);
+        final int end = from + n;
+        if (bits == 0) {
+            for (int i = from; i < end; i++) {
+                dst[i] = min;
+            }
+            return;
+        }
+        final long mask = bits == Long.SIZE ? -1L : (1L << bits) - 1;
+        long word = getLong(buffer);
+        int available = Long.SIZE;
+        for (int i = from; i < end; i++) {
+            final long value;
+            if (available >= bits) {
+                value = word & mask;
+                // 位移64位在Java中不生效，需要单独处理
+                word = bits == Long.SIZE ? 0 : word >>> bits;
+                available -= bits;
+            } else {
+                final long next = getLong(buffer);
+                value = (word | next << available) & mask;
+                word = bits - available == Long.SIZE ? 0 : next >>> (bits - available);
+                available += Long.SIZE - bits;
+            }
+            dst[i] = min + value;
+        }
+    }
+
+    private static int readBits(final ByteBuffer buffer, final int maxBits) throws DecoderException {
+        final int bits = buffer.get() & 0xFF;
+        if (bits > maxBits) {
+            throw new DecoderException("Invalid bit width " + bits + " at position " + (buffer.position() - 1));
+        }
+        return bits;
+    }
+
+    private static void putLong(final ByteBuffer buffer, final long value) {
+        buffer.putLong(buffer.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value));
+    }
+
+    private static long getLong(final ByteBuffer buffer) {
+        final long value = buffer.getLong();
+        return buffer.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value);
+    }
+
+}
@@ -1,10 +1,15 @@
 package tomkit.core.codec.binary;
 
-import tomkit.core.codec.BinaryDecoder;
-import tomkit.core.codec.BinaryEncoder;
 import tomkit.core.codec.DecoderException;
 import tomkit.core.codec.EncoderException;
-
+import tomkit.core.codec.StreamingCodec;
+import tomkit.core.io.IOStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -13,7 +18,7 @@ import java.nio.charset.StandardCharsets;
  * @author yh
  * @since 2021/4/7
  */
-public final class Hex implements BinaryEncoder, BinaryDecoder {
+public final class Hex implements StreamingCodec {
 
     /**
      * Default charset is {@link StandardCharsets#UTF_8}.
@@ -303,6 +308,90 @@ public final class Hex implements BinaryEncoder, BinaryDecoder {
         return new String(encodeHex(data, toLowerCase));
     }
 
+    /**
+     * Wraps an output stream so that every byte written to the returned stream is encoded as two lower-case
+     * hexadecimal characters, which are written to the given stream as ASCII bytes.
+     *
+     * @param out the stream receiving the hexadecimal characters
+     * @return an output stream accepting binary data
+     * @see #encodingOutputStream(OutputStream, boolean)
+     */
+    public static OutputStream encodingOutputStream(final OutputStream out) {
+        return encodingOutputStream(out, true);
+    }
+
+    /**
+     * Wraps an output stream so that every byte written to the returned stream is encoded as two hexadecimal
+     * characters, which are written to the given stream as ASCII bytes.
+     * <p>
+     * The data passes through a fixed-size buffer, so payloads of any length are encoded in constant memory. Closing
+     * the returned stream flushes the pending characters and closes the given stream.
+     * </p>
+     *
+     * @param out         the stream receiving the hexadecimal characters
+     * @param toLowerCase {@code true} converts to lowercase, {@code false} to uppercase
+     * @return an output stream accepting binary data
+     */
+    public static OutputStream encodingOutputStream(final OutputStream out, final boolean toLowerCase) {
+        return new EncodingOutputStream(out, toLowerCase ? DIGITS_LOWER : DIGITS_UPPER);
+    }
+
+    /**
+     * Wraps an input stream of hexadecimal characters (as ASCII bytes) so that reading from the returned stream yields
+     * the decoded binary data.
+     * <p>
+     * The data passes through a fixed-size buffer, so payloads of any length are decoded in constant memory. Illegal
+     * characters, or an odd number of characters at the end of the stream, are reported as an {@link IOException}
+     * whose cause is a {@link DecoderException}.
+     * </p>
+     *
+     * @param in the stream supplying the hexadecimal characters
+     * @return an input stream of the decoded data
+     */
+    public static InputStream decodingInputStream(final InputStream in) {
+        return new DecodingInputStream(in);
+    }
+
+    /**
+     * Wraps an input stream of binary data so that reading from the returned reader yields its lower-case hexadecimal
+     * representation.
+     *
+     * @param in the stream supplying the binary data
+     * @return a reader of hexadecimal characters
+     * @see #encodingReader(InputStream, boolean)
+     */
+    public static Reader encodingReader(final InputStream in) {
+        return encodingReader(in, true);
+    }
+
+    /**
+     * Wraps an input stream of binary data so that reading from the returned reader yields its hexadecimal
+     * representation. Payloads of any length are encoded in constant memory.
+     *
+     * @param in          the stream supplying the binary data
+     * @param toLowerCase {@code true} converts to lowercase, {@code false} to uppercase
+     * @return a reader of hexadecimal characters
+     */
+    public static Reader encodingReader(final InputStream in, final boolean toLowerCase) {
+        return new EncodingReader(in, toLowerCase ? DIGITS_LOWER : DIGITS_UPPER);
+    }
+
+    /**
+     * Wraps an output stream so that hexadecimal characters written to the returned writer are decoded and written to
+     * the given stream as binary data.
+     * <p>
+     * Payloads of any length are decoded in constant memory. Illegal characters are reported as an
+     * {@link IOException} whose cause is a {@link DecoderException}; an odd number of characters is reported when the
+     * writer is closed.
+     * </p>
+     *
+     * @param out the stream receiving the decoded data
+     * @return a writer accepting hexadecimal characters
+     */
+    public static Writer decodingWriter(final OutputStream out) {
+        return new DecodingWriter(out);
+    }
+
     /**
      * Convert the byte buffer to a byte array. All bytes identified by
      * {@link ByteBuffer#remaining()} will be used.
@@ -342,6 +431,31 @@ public final class Hex implements BinaryEncoder, BinaryDecoder {
         return digit;
     }
 
+    /**
+     * Converts a hexadecimal character read from a stream to an integer.
+     *
+     * @param ch    A character to convert to an integer digit
+     * @param index The index of the character in the stream
+     * @return An integer
+     * @throws IOException Thrown if ch is an illegal hex character, caused by a {@link DecoderException}
+     */
+    private static int toStreamDigit(final int ch, final long index) throws IOException {
+        final int digit = Character.digit(ch, 16);
+        if (digit == -1) {
+            throw new IOException(new DecoderException("Illegal hexadecimal character " + (char) ch + " at index " + index));
+        }
+        return digit;
+    }
+
+    /**
+     * Checks the bounds of an array range used by the stream wrappers.
+     */
+    private static void checkFromIndexSize(final int off, final int len, final int length) {
+        if ((off | len | (off + len) | (length - (off + len))) < 0) {
+            throw new IndexOutOfBoundsException("Range [" + off + ", " + off + " + " + len + ") out of bounds for length " + length);
+        }
+    }
+
     private final Charset charset;
 
     /**
@@ -505,6 +619,32 @@ public final class Hex implements BinaryEncoder, BinaryDecoder {
         return encodeHex(byteArray);
     }
 
+    /**
+     * Wraps an output stream so that bytes written to the returned stream are written to {@code out} as lower-case
+     * hexadecimal characters.
+     *
+     * @param out the stream receiving the hexadecimal characters
+     * @return an output stream accepting binary data
+     * @see #encodingOutputStream(OutputStream)
+     */
+    @Override
+    public OutputStream encodingStream(final OutputStream out) {
+        return encodingOutputStream(out);
+    }
+
+    /**
+     * Wraps an input stream of hexadecimal characters so that reading from the returned stream yields the decoded
+     * bytes.
+     *
+     * @param in the stream supplying the hexadecimal characters
+     * @return an input stream of the decoded data
+     * @see #decodingInputStream(InputStream)
+     */
+    @Override
+    public InputStream decodingStream(final InputStream in) {
+        return decodingInputStream(in);
+    }
+
     /**
      * Gets the charset.
      *
@@ -534,4 +674,296 @@ public final class Hex implements BinaryEncoder, BinaryDecoder {
     public String toString() {
         return super.toString() + "[charsetName=" + this.charset + "]";
     }
+
+    /**
+     * Output stream encoding written bytes to hexadecimal characters.
+     */
+    private static final class EncodingOutputStream extends OutputStream {
+
+        private final OutputStream out;
+        private final char[] toDigits;
+        private final byte[] buffer = new byte[IOStreams.DEFAULT_BUFFER_SIZE];
+        private int pos;
+        private boolean closed;
+
+        private EncodingOutputStream(final OutputStream out, final char[] toDigits) {
+            this.out = out;
+            this.toDigits = toDigits;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            ensureOpen();
+            if (pos == buffer.length) {
+                flushBuffer();
+            }
+            buffer[pos++] = (byte) toDigits[(0xF0 & b) >>> 4];
+            buffer[pos++] = (byte) toDigits[0x0F & b];
+        }
+
+        @Override
+        public void write(final byte[] b, int off, int len) throws IOException {
+            checkFromIndexSize(off, len, b.length);
+            ensureOpen();
+            while (len > 0) {
+                if (pos == buffer.length) {
+                    flushBuffer();
+                }
+                final int n = Math.min(len, (buffer.length - pos) >> 1);
+                for (final int end = off + n; off < end; off++) {
+                    buffer[pos++] = (byte) toDigits[(0xF0 & b[off]) >>> 4];
+                    buffer[pos++] = (byte) toDigits[0x0F & b[off]];
+                }
+                len -= n;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            ensureOpen();
+            flushBuffer();
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                flushBuffer();
+                out.flush();
+            } finally {
+                out.close();
+            }
+        }
+
+        private void flushBuffer() throws IOException {
+            if (pos > 0) {
+                out.write(buffer, 0, pos);
+                pos = 0;
+            }
+        }
+
+        private void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+        }
+    }
+
+    /**
+     * Input stream decoding hexadecimal characters to bytes.
+     */
+    private static final class DecodingInputStream extends InputStream {
+
+        private final InputStream in;
+        private final byte[] buffer = new byte[IOStreams.DEFAULT_BUFFER_SIZE];
+        private final byte[] single = new byte[1];
+        /**
+         * High nibble read at the end of the previous chunk, or -1.
+         */
+        private int pending = -1;
+        private long index;
+        private boolean eof;
+
+        private DecodingInputStream(final InputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int n = read(single, 0, 1);
+            return n == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            checkFromIndexSize(off, len, b.length);
+            if (len == 0) {
+                return 0;
+            }
+            if (eof) {
+                return -1;
+            }
+            int written = 0;
+            while (written == 0) {
+                // never read more characters than the caller's array can hold once decoded
+                // computed in long, len << 1 overflows for len >= 2^30
+                final int max = (int) Math.min(buffer.length, ((long) len << 1) - (pending < 0 ? 0 : 1));
+                final int n = in.read(buffer, 0, max);
+                if (n == -1) {
+                    eof = true;
+                    if (pending >= 0) {
+                        throw new IOException(new DecoderException("Odd number of characters."));
+                    }
+                    return -1;
+                }
+                for (int i = 0; i < n; i++) {
+                    final int digit = toStreamDigit(buffer[i] & 0xFF, index++);
+                    if (pending < 0) {
+                        pending = digit;
+                    } else {
+                        b[off + written++] = (byte) ((pending << 4) | digit);
+                        pending = -1;
+                    }
+                }
+            }
+            return written;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * Reader producing the hexadecimal characters of a binary input stream.
+     */
+    private static final class EncodingReader extends Reader {
+
+        private final InputStream in;
+        private final char[] toDigits;
+        private final byte[] buffer = new byte[IOStreams.DEFAULT_BUFFER_SIZE];
+        /**
+         * Low nibble character that did not fit into the caller's array, or -1.
+         */
+        private int pending = -1;
+
+        private EncodingReader(final InputStream in, final char[] toDigits) {
+            this.in = in;
+            this.toDigits = toDigits;
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) throws IOException {
+            checkFromIndexSize(off, len, cbuf.length);
+            if (len == 0) {
+                return 0;
+            }
+            int written = 0;
+            if (pending >= 0) {
+                cbuf[off + written++] = (char) pending;
+                pending = -1;
+                if (written == len) {
+                    return written;
+                }
+            }
+            final int n = in.read(buffer, 0, Math.min(buffer.length, (len - written + 1) >> 1));
+            if (n == -1) {
+                return written == 0 ? -1 : written;
+            }
+            for (int i = 0; i < n; i++) {
+                cbuf[off + written++] = toDigits[(0xF0 & buffer[i]) >>> 4];
+                final char low = toDigits[0x0F & buffer[i]];
+                if (written < len) {
+                    cbuf[off + written++] = low;
+                } else {
+                    pending = low;
+                }
+            }
+            return written;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * Writer decoding hexadecimal characters to a binary output stream.
+     */
+    private static final class DecodingWriter extends Writer {
+
+        private final OutputStream out;
+        private final byte[] buffer = new byte[IOStreams.DEFAULT_BUFFER_SIZE];
+        private int pos;
+        /**
+         * High nibble of the byte being decoded, or -1.
+         */
+        private int pending = -1;
+        private long index;
+        private boolean closed;
+
+        private DecodingWriter(final OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(final int c) throws IOException {
+            ensureOpen();
+            decode(c);
+        }
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) throws IOException {
+            checkFromIndexSize(off, len, cbuf.length);
+            ensureOpen();
+            for (int i = off, end = off + len; i < end; i++) {
+                decode(cbuf[i]);
+            }
+        }
+
+        @Override
+        public void write(final String str, final int off, final int len) throws IOException {
+            checkFromIndexSize(off, len, str.length());
+            ensureOpen();
+            for (int i = off, end = off + len; i < end; i++) {
+                decode(str.charAt(i));
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            ensureOpen();
+            flushBuffer();
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                flushBuffer();
+                out.flush();
+                if (pending >= 0) {
+                    throw new IOException(new DecoderException("Odd number of characters."));
+                }
+            } finally {
+                out.close();
+            }
+        }
+
+        private void decode(final int c) throws IOException {
+            final int digit = toStreamDigit(c, index++);
+            if (pending < 0) {
+                pending = digit;
+                return;
+            }
+            if (pos == buffer.length) {
+                flushBuffer();
+            }
+            buffer[pos++] = (byte) ((pending << 4) | digit);
+            pending = -1;
+        }
+
+        private void flushBuffer() throws IOException {
+            if (pos > 0) {
+                out.write(buffer, 0, pos);
+                pos = 0;
+            }
+        }
+
+        private void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+        }
+    }
 }
@@ -0,0 +1,285 @@
+package tomkit.core.codec.binary;
+
+import tomkit.core.codec.DecoderException;
+import tomkit.core.lang.Assert;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 变长整数编解码工具类
+ * <p>
+ * varint每个字节保存7位，最高位表示后面是否还有字节（LEB128，与protobuf一致），小的非负数只占1~2个字节。
+ * 负数先经过zigzag编码（0, -1, 1, -2...映射为0, 1, 2, 3...），使绝对值小的数同样很短。
+ * 数组编码时保存相邻两个数的差值：有序数组（ID、时间戳）的差值很小，乱序数组的差值经zigzag编码后也不会变长太多
+ *
+ * <pre class="code">
+ *     ByteBuffer buffer = ByteBuffer.allocate(VarInts.maxDeltaLength(ids.length));
+ *     VarInts.writeDeltas(buffer, ids, 0, ids.length);
+ *     buffer.flip();
+ *     VarInts.readDeltas(buffer, decoded, 0, ids.length);
+ * </pre>
+ *
+ * @author yh
+ * @since 2026/10/18
+ * @see BitPacking
+ */
+public final class VarInts {
+
+    /**
+     * int的varint最大字节数
+     */
+    public static final int MAX_VARINT_LENGTH = 5;
+
+    /**
+     * long的varint最大字节数
+     */
+    public static final int MAX_VARLONG_LENGTH = 10;
+
+    private VarInts() {
+    }
+
+    /**
+     * zigzag编码，将有符号数映射为无符号数：0, -1, 1, -2...映射为0, 1, 2, 3...
+     *
+     * @param value 有符号数
+     * @return 无符号数
+     */
+    public static int zigZagEncode(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * zigzag解码
+     *
+     * @param value 无符号数
+     * @return 有符号数
+     */
+    public static int zigZagDecode(final int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * zigzag编码
+     *
+     * @param value 有符号数
+     * @return 无符号数
+     */
+    public static long zigZagEncode(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * zigzag解码
+     *
+     * @param value 无符号数
+     * @return 有符号数
+     */
+    public static long zigZagDecode(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 计算varint编码后的字节数，value按无符号数处理
+     *
+     * @param value 值
+     * @return 1~{@value #MAX_VARINT_LENGTH}
+     */
+    public static int varIntLength(final int value) {
+        // 每7位一个字节，0也占一个字节
+        return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    /**
+     * 计算varint编码后的字节数，value按无符号数处理
+     *
+     * @param value 值
+     * @return 1~{@value #MAX_VARLONG_LENGTH}
+     */
+    public static int varLongLength(final long value) {
+        return (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    /**
+     * 写入varint，value按无符号数处理，负数需先{@link #zigZagEncode(int) zigzag编码}
+     *
+     * @param buffer 目标
+     * @param value  值
+     * @throws java.nio.BufferOverflowException 剩余空间不足时抛出
+     */
+    public static void writeVarInt(final ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * 写入varint，value按无符号数处理，负数需先{@link #zigZagEncode(long) zigzag编码}
+     *
+     * @param buffer 目标
+     * @param value  值
+     * @throws java.nio.BufferOverflowException 剩余空间不足时抛出
+     */
+    public static void writeVarLong(final ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * 读取varint
+     *
+     * @param buffer 来源
+     * @return 值
+     * @throws DecoderException                  超过{@value #MAX_VARINT_LENGTH}个字节时抛出
+     * @throws java.nio.BufferUnderflowException 数据不完整时抛出
+     */
+    public static int readVarInt(final ByteBuffer buffer) throws DecoderException {
+        int b = buffer.get();
+        if (b >= 0) {
+            return b;
+        }
+        int value = b & 0x7F;
+        for (int shift = 7; shift < 35; shift += 7) {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new DecoderException("Malformed varint at position " + (buffer.position() - MAX_VARINT_LENGTH));
+    }
+
+    /**
+     * 读取varint
+     *
+     * @param buffer 来源
+     * @return 值
+     * @throws DecoderException                  超过{@value #MAX_VARLONG_LENGTH}个字节时抛出
+     * @throws java.nio.BufferUnderflowException 数据不完整时抛出
+     */
+    public static long readVarLong(final ByteBuffer buffer) throws DecoderException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final int b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new DecoderException("Malformed varint at position " + (buffer.position() - MAX_VARLONG_LENGTH));
+    }
+
+    /**
+     * 计算{@link #writeDeltas(ByteBuffer, int[], int, int)}写入length个值最多需要的字节数
+     *
+     * @param length 值的数量
+     * @return 最大字节数
+     */
+    public static int maxDeltaLength(final int length) {
+        Assert.checkArgument(length >= 0 && length <= Integer.MAX_VALUE / MAX_VARINT_LENGTH,
+                "Invalid length: " + length);
+        return length * MAX_VARINT_LENGTH;
+    }
+
+    /**
+     * 计算{@link #writeDeltas(ByteBuffer, long[], int, int)}写入length个值最多需要的字节数
+     *
+     * @param length 值的数量
+     * @return 最大字节数
+     */
+    public static int maxDeltaLongLength(final int length) {
+        Assert.checkArgument(length >= 0 && length <= Integer.MAX_VALUE / MAX_VARLONG_LENGTH,
+                "Invalid length: " + length);
+        return length * MAX_VARLONG_LENGTH;
+    }
+
+    /**
+     * 写入数组片段：依次写入每个值与前一个值（第一个值与0）之差的zigzag varint。数量不写入，由调用方记录
+     *
+     * @param buffer 目标
+     * @param values 数组
+     * @param offset 起始位置
+     * @param length 数量
+     * @throws java.nio.BufferOverflowException 剩余空间不足时抛出，此时已写入部分数据
+     */
+    public static void writeDeltas(final ByteBuffer buffer, final int[] values, final int offset, final int length) {
+        checkFromIndexSize(offset, length, values.length);
+        int previous = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final int value = values[i];
+            writeVarInt(buffer, zigZagEncode(value - previous));
+            previous = value;
+        }
+    }
+
+    /**
+     * 读取{@link #writeDeltas(ByteBuffer, int[], int, int)}写入的数组片段
+     *
+     * @param buffer 来源
+     * @param dst    目标数组
+     * @param offset 起始位置
+     * @param length 数量
+     * @throws DecoderException                  数据格式错误时抛出
+     * @throws java.nio.BufferUnderflowException 数据不完整时抛出
+     */
+    public static void readDeltas(final ByteBuffer buffer, final int[] dst, final int offset, final int length)
+            throws DecoderException {
+        checkFromIndexSize(offset, length, dst.length);
+        int previous = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            previous += zigZagDecode(readVarInt(buffer));
+            dst[i] = previous;
+        }
+    }
+
+    /**
+     * 写入数组片段：依次写入每个值与前一个值（第一个值与0）之差的zigzag varint。数量不写入，由调用方记录
+     *
+     * @param buffer 目标
+     * @param values 数组
+     * @param offset 起始位置
+     * @param length 数量
+     * @throws java.nio.BufferOverflowException 剩余空间不足时抛出，此时已写入部分数据
+     */
+    public static void writeDeltas(final ByteBuffer buffer, final long[] values, final int offset, final int length) {
+        checkFromIndexSize(offset, length, values.length);
+        long previous = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final long value = values[i];
+            writeVarLong(buffer, zigZagEncode(value - previous));
+            previous = value;
+        }
+    }
+
+    /**
+     * 读取{@link #writeDeltas(ByteBuffer, long[], int, int)}写入的数组片段
+     *
+     * @param buffer 来源
+     * @param dst    目标数组
+     * @param offset 起始位置
+     * @param length 数量
+     * @throws DecoderException                  数据格式错误时抛出
+     * @throws java.nio.BufferUnderflowException 数据不完整时抛出
+     */
+    public static void readDeltas(final ByteBuffer buffer, final long[] dst, final int offset, final int length)
+            throws DecoderException {
+        checkFromIndexSize(offset, length, dst.length);
+        long previous = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            previous += zigZagDecode(readVarLong(buffer));
+            dst[i] = previous;
+        }
+    }
+
+    static void checkFromIndexSize(final int offset, final int length, final int size) {
+        if ((size | offset | length) < 0 || length > size - offset) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+                    + ") out of bounds for length " + size);
+        }
+    }
+
+}
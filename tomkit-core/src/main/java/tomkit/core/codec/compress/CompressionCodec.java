@@ -0,0 +1,601 @@
+package tomkit.core.codec.compress;
+
+import tomkit.core.codec.DecoderException;
+import tomkit.core.codec.EncoderException;
+import tomkit.core.codec.StreamingCodec;
+import tomkit.core.io.IOStreams;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * gzip/zlib/deflate压缩编解码器，线程安全
+ * <p>
+ * 编码为压缩，解码为解压。底层的{@link Deflater}/{@link Inflater}从对象池借出，
+ * 在流关闭时归还，因此使用流包装时必须关闭返回的流
+ * <pre>
+ *     CompressionCodec codec = CompressionCodec.gzip(Deflater.BEST_SPEED);
+ *     byte[] compressed = codec.encode(data);
+ *     try (OutputStream os = codec.encodingStream(Files.newOutputStream(path))) {
+ *         IOStreams.copy(in, os);
+ *     }
+ * </pre>
+ *
+ * @author yh
+ * @since 2026/10/18
+ */
+public final class CompressionCodec implements StreamingCodec {
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    /**
+     * gzip文件头：魔数、CM(deflate)、FLG、MTIME、XFL、OS(unknown)
+     */
+    private static final byte[] GZIP_HEADER = {(byte) 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final CompressionFormat format;
+    private final int level;
+
+    private CompressionCodec(final CompressionFormat format, final int level) {
+        this.format = format;
+        this.level = DeflaterPool.checkLevel(level);
+    }
+
+    /**
+     * 获取默认压缩级别的编解码器
+     *
+     * @param format 压缩格式
+     * @return 编解码器
+     */
+    public static CompressionCodec of(final CompressionFormat format) {
+        return of(format, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * 获取指定压缩级别的编解码器
+     *
+     * @param format 压缩格式
+     * @param level  压缩级别，-1（默认）或0~9
+     * @return 编解码器
+     * @throws IllegalArgumentException 如果级别不在-1~9之间
+     */
+    public static CompressionCodec of(final CompressionFormat format, final int level) {
+        if (format == null) {
+            throw new NullPointerException("format");
+        }
+        return new CompressionCodec(format, level);
+    }
+
+    /**
+     * 获取默认压缩级别的gzip编解码器
+     *
+     * @return 编解码器
+     */
+    public static CompressionCodec gzip() {
+        return of(CompressionFormat.GZIP);
+    }
+
+    /**
+     * 获取gzip编解码器
+     *
+     * @param level 压缩级别，-1（默认）或0~9
+     * @return 编解码器
+     */
+    public static CompressionCodec gzip(final int level) {
+        return of(CompressionFormat.GZIP, level);
+    }
+
+    /**
+     * 获取默认压缩级别的zlib编解码器
+     *
+     * @return 编解码器
+     */
+    public static CompressionCodec zlib() {
+        return of(CompressionFormat.ZLIB);
+    }
+
+    /**
+     * 获取zlib编解码器
+     *
+     * @param level 压缩级别，-1（默认）或0~9
+     * @return 编解码器
+     */
+    public static CompressionCodec zlib(final int level) {
+        return of(CompressionFormat.ZLIB, level);
+    }
+
+    /**
+     * 获取默认压缩级别的原始deflate编解码器
+     *
+     * @return 编解码器
+     */
+    public static CompressionCodec deflate() {
+        return of(CompressionFormat.DEFLATE);
+    }
+
+    /**
+     * 获取原始deflate编解码器
+     *
+     * @param level 压缩级别，-1（默认）或0~9
+     * @return 编解码器
+     */
+    public static CompressionCodec deflate(final int level) {
+        return of(CompressionFormat.DEFLATE, level);
+    }
+
+    /**
+     * 获取相同格式、指定压缩级别的编解码器
+     *
+     * @param level 压缩级别，-1（默认）或0~9
+     * @return 编解码器
+     */
+    public CompressionCodec withLevel(final int level) {
+        return level == this.level ? this : new CompressionCodec(format, level);
+    }
+
+    /**
+     * 获取压缩格式
+     *
+     * @return 压缩格式
+     */
+    public CompressionFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * 获取压缩级别
+     *
+     * @return 压缩级别
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * 对输出流进行压缩包装，关闭返回的输出流时会写入结尾、归还压缩器并关闭{@code out}
+     *
+     * @param out 输出流
+     * @return 压缩包装后的输出流
+     * @throws IOException 如果写入gzip文件头失败
+     */
+    @Override
+    public OutputStream encodingStream(final OutputStream out) throws IOException {
+        if (format == CompressionFormat.GZIP) {
+            return new GzipOutputStream(out, level);
+        }
+        return new PooledDeflaterOutputStream(out, level, format.nowrap());
+    }
+
+    /**
+     * 对输入流进行解压包装，关闭返回的输入流时会归还解压器并关闭{@code in}
+     *
+     * @param in 输入流
+     * @return 解压包装后的输入流
+     * @throws IOException 如果读取gzip文件头失败
+     */
+    @Override
+    public InputStream decodingStream(final InputStream in) throws IOException {
+        if (format == CompressionFormat.GZIP) {
+            return new GzipInputStream(in);
+        }
+        return new PooledInflaterInputStream(in, format.nowrap());
+    }
+
+    /**
+     * 压缩字节数组
+     *
+     * @param source 源字节数组
+     * @return 压缩后字节数组
+     * @throws EncoderException 如果压缩失败
+     */
+    @Override
+    public byte[] encode(final byte[] source) throws EncoderException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, source.length >> 1));
+        try (OutputStream os = encodingStream(output)) {
+            os.write(source);
+        } catch (IOException e) {
+            throw new EncoderException(e.getMessage(), e);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * 压缩字节数组或{@link ByteBuffer}
+     *
+     * @param source 要压缩的对象
+     * @return 压缩后字节数组
+     * @throws EncoderException 如果对象类型不支持或压缩失败
+     */
+    @Override
+    public Object encode(final Object source) throws EncoderException {
+        if (source instanceof byte[]) {
+            return encode((byte[]) source);
+        } else if (source instanceof ByteBuffer) {
+            return encode(toByteArray((ByteBuffer) source));
+        }
+        throw new EncoderException("Parameter supplied to " + format + " encode is not a byte[] or ByteBuffer");
+    }
+
+    /**
+     * 解压字节数组
+     *
+     * @param source 压缩字节数组
+     * @return 解压后字节数组
+     * @throws DecoderException 如果数据格式错误
+     */
+    @Override
+    public byte[] decode(final byte[] source) throws DecoderException {
+        try (InputStream is = decodingStream(new ByteArrayInputStream(source))) {
+            return IOStreams.toByteArray(is);
+        } catch (IOException e) {
+            throw new DecoderException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 解压字节数组或{@link ByteBuffer}
+     *
+     * @param source 要解压的对象
+     * @return 解压后字节数组
+     * @throws DecoderException 如果对象类型不支持或数据格式错误
+     */
+    @Override
+    public Object decode(final Object source) throws DecoderException {
+        if (source instanceof byte[]) {
+            return decode((byte[]) source);
+        } else if (source instanceof ByteBuffer) {
+            return decode(toByteArray((ByteBuffer) source));
+        }
+        throw new DecoderException("Parameter supplied to " + format + " decode is not a byte[] or ByteBuffer");
+    }
+
+    private static byte[] toByteArray(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return format.name().toLowerCase(Locale.ROOT) + "[level=" + level + "]";
+    }
+
+    /**
+     * 使用对象池中压缩器的zlib/deflate压缩输出流
+     */
+    private static class PooledDeflaterOutputStream extends DeflaterOutputStream {
+
+        private final int level;
+        private final boolean nowrap;
+        private boolean closed;
+
+        PooledDeflaterOutputStream(final OutputStream out, final int level, final boolean nowrap) {
+            super(out, DeflaterPool.deflater(level, nowrap), IOStreams.DEFAULT_BUFFER_SIZE);
+            this.level = level;
+            this.nowrap = nowrap;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            ensureOpen();
+            super.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            ensureOpen();
+            super.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            ensureOpen();
+            super.flush();
+        }
+
+        @Override
+        public void finish() throws IOException {
+            ensureOpen();
+            super.finish();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            try {
+                super.close();
+            } finally {
+                release();
+            }
+        }
+
+        /**
+         * 压缩器归还后可能已被其它流借出，关闭后的任何写入都必须拒绝，否则会写入其它流
+         */
+        final void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+        }
+
+        /**
+         * 归还压缩器，之后不能再使用该流
+         */
+        void release() {
+            if (!closed) {
+                closed = true;
+                DeflaterPool.release(def, level, nowrap);
+                def = null;
+            }
+        }
+    }
+
+    /**
+     * 使用对象池中压缩器的gzip压缩输出流
+     */
+    private static final class GzipOutputStream extends PooledDeflaterOutputStream {
+
+        private final CRC32 crc = new CRC32();
+
+        GzipOutputStream(final OutputStream out, final int level) throws IOException {
+            super(out, level, true);
+            try {
+                out.write(GZIP_HEADER);
+            } catch (IOException e) {
+                release();
+                throw e;
+            }
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            super.write(b, off, len);
+            crc.update(b, off, len);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            ensureOpen();
+            if (!def.finished()) {
+                super.finish();
+                writeInt((int) crc.getValue());
+                // rfc1952; ISIZE is the input size modulo 2^32
+                writeInt((int) def.getBytesRead());
+            }
+        }
+
+        private void writeInt(final int i) throws IOException {
+            out.write(i & 0xff);
+            out.write((i >> 8) & 0xff);
+            out.write((i >> 16) & 0xff);
+            out.write((i >> 24) & 0xff);
+        }
+    }
+
+    /**
+     * 使用对象池中解压器的zlib/deflate解压输入流
+     */
+    private static class PooledInflaterInputStream extends InflaterInputStream {
+
+        private final boolean nowrap;
+        private boolean closed;
+        private boolean eofPadded;
+
+        PooledInflaterInputStream(final InputStream in, final boolean nowrap) {
+            super(in, DeflaterPool.inflater(nowrap), IOStreams.DEFAULT_BUFFER_SIZE);
+            this.nowrap = nowrap;
+        }
+
+        @Override
+        protected void fill() throws IOException {
+            len = in.read(buf, 0, buf.length);
+            if (len == -1) {
+                // nowrap模式下zlib可能需要一个额外的填充字节才能结束
+                if (nowrap && !eofPadded) {
+                    eofPadded = true;
+                    buf[0] = 0;
+                    len = 1;
+                } else {
+                    throw new EOFException("Unexpected end of ZLIB input stream");
+                }
+            }
+            inf.setInput(buf, 0, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+            } finally {
+                release();
+            }
+        }
+
+        /**
+         * 归还解压器，之后不能再使用该流
+         */
+        void release() {
+            closed = true;
+            DeflaterPool.release(inf, nowrap);
+        }
+    }
+
+    /**
+     * 使用对象池中解压器的gzip解压输入流，支持多个gzip成员首尾相连
+     */
+    private static final class GzipInputStream extends PooledInflaterInputStream {
+
+        private final CRC32 crc = new CRC32();
+        private boolean eos;
+
+        GzipInputStream(final InputStream in) throws IOException {
+            super(in, true);
+            try {
+                readHeader(in);
+            } catch (IOException e) {
+                release();
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (eos) {
+                return -1;
+            }
+            final int n = super.read(b, off, len);
+            if (n == -1) {
+                if (readTrailer()) {
+                    eos = true;
+                } else {
+                    return this.read(b, off, len);
+                }
+            } else {
+                crc.update(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        protected void fill() throws IOException {
+            len = in.read(buf, 0, buf.length);
+            if (len == -1) {
+                throw new EOFException("Unexpected end of ZLIB input stream");
+            }
+            inf.setInput(buf, 0, len);
+        }
+
+        /**
+         * 读取gzip文件头
+         *
+         * @return 文件头长度
+         */
+        private int readHeader(final InputStream input) throws IOException {
+            final CheckedInputStream in = new CheckedInputStream(input, crc);
+            crc.reset();
+            if (readUShort(in) != GZIP_MAGIC) {
+                throw new ZipException("Not in GZIP format");
+            }
+            if (readUByte(in) != Deflater.DEFLATED) {
+                throw new ZipException("Unsupported compression method");
+            }
+            final int flg = readUByte(in);
+            // MTIME、XFL、OS
+            skipBytes(in, 6);
+            int n = 2 + 2 + 6;
+            if ((flg & FEXTRA) == FEXTRA) {
+                final int m = readUShort(in);
+                skipBytes(in, m);
+                n += m + 2;
+            }
+            if ((flg & FNAME) == FNAME) {
+                do {
+                    n++;
+                } while (readUByte(in) != 0);
+            }
+            if ((flg & FCOMMENT) == FCOMMENT) {
+                do {
+                    n++;
+                } while (readUByte(in) != 0);
+            }
+            if ((flg & FHCRC) == FHCRC) {
+                final int v = (int) crc.getValue() & 0xffff;
+                if (readUShort(in) != v) {
+                    throw new ZipException("Corrupt GZIP header");
+                }
+                n += 2;
+            }
+            crc.reset();
+            return n;
+        }
+
+        /**
+         * 读取gzip结尾并校验，如果后面还有gzip成员则继续解压
+         *
+         * @return 是否已到达流末尾
+         */
+        private boolean readTrailer() throws IOException {
+            InputStream in = this.in;
+            final int n = inf.getRemaining();
+            if (n > 0) {
+                in = new SequenceInputStream(new ByteArrayInputStream(buf, len - n, n), new FilterInputStream(in) {
+                    @Override
+                    public void close() {
+                    }
+                });
+            }
+            if (readUInt(in) != crc.getValue()
+                    // rfc1952; ISIZE is the input size modulo 2^32
+                    || readUInt(in) != (inf.getBytesWritten() & 0xffffffffL)) {
+                throw new ZipException("Corrupt GZIP trailer");
+            }
+            if (this.in.available() > 0 || n > 26) {
+                int m = 8;
+                try {
+                    m += readHeader(in);
+                } catch (IOException e) {
+                    // 忽略尾部不是gzip格式的数据
+                    return true;
+                }
+                inf.reset();
+                if (n > m) {
+                    inf.setInput(buf, len - n + m, n - m);
+                }
+                return false;
+            }
+            return true;
+        }
+
+        private long readUInt(final InputStream in) throws IOException {
+            final long s = readUShort(in);
+            return ((long) readUShort(in) << 16) | s;
+        }
+
+        private int readUShort(final InputStream in) throws IOException {
+            final int b = readUByte(in);
+            return (readUByte(in) << 8) | b;
+        }
+
+        private int readUByte(final InputStream in) throws IOException {
+            final int b = in.read();
+            if (b == -1) {
+                throw new EOFException();
+            }
+            return b;
+        }
+
+        private void skipBytes(final InputStream in, int n) throws IOException {
+            while (n > 0) {
+                readUByte(in);
+                n--;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package tomkit.core.codec.compress;
+
+/**
+ * 压缩数据格式
+ *
+ * @author yh
+ * @since 2026/10/18
+ */
+public enum CompressionFormat {
+
+    /**
+     * gzip格式（RFC 1952），带文件头和CRC32校验
+     */
+    GZIP,
+
+    /**
+     * zlib格式（RFC 1950），带2字节头和Adler-32校验
+     */
+    ZLIB,
+
+    /**
+     * 原始deflate格式（RFC 1951），没有头和校验
+     */
+    DEFLATE;
+
+    /**
+     * 底层{@link java.util.zip.Deflater}/{@link java.util.zip.Inflater}是否使用nowrap模式
+     *
+     * @return gzip和原始deflate格式返回true
+     */
+    boolean nowrap() {
+        return this != ZLIB;
+    }
+}
@@ -0,0 +1,111 @@
+package tomkit.core.codec.compress;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * {@link Deflater}/{@link Inflater}对象池
+ * <p>
+ * 两者创建开销大且持有本地内存，在流关闭时归还复用，而不是等待GC回收。
+ * 每种压缩级别和nowrap组合单独缓存，池满时直接释放本地内存
+ *
+ * @author yh
+ * @since 2026/10/18
+ */
+final class DeflaterPool {
+
+    /**
+     * 每种组合最多缓存的对象数
+     */
+    private static final int MAX_POOLED = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    /**
+     * 压缩级别-1~9，下标为{@code (level + 1) * 2 + (nowrap ? 1 : 0)}
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final ArrayBlockingQueue<Deflater>[] DEFLATERS = new ArrayBlockingQueue[22];
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final ArrayBlockingQueue<Inflater>[] INFLATERS = new ArrayBlockingQueue[2];
+
+    static {
+        for (int i = 0; i < DEFLATERS.length; i++) {
+            DEFLATERS[i] = new ArrayBlockingQueue<>(MAX_POOLED);
+        }
+        for (int i = 0; i < INFLATERS.length; i++) {
+            INFLATERS[i] = new ArrayBlockingQueue<>(MAX_POOLED);
+        }
+    }
+
+    private DeflaterPool() {
+    }
+
+    /**
+     * 校验压缩级别
+     *
+     * @param level 压缩级别
+     * @return 压缩级别
+     * @throws IllegalArgumentException 如果级别不在-1~9之间
+     */
+    static int checkLevel(final int level) {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level: " + level);
+        }
+        return level;
+    }
+
+    /**
+     * 借出压缩器
+     *
+     * @param level  压缩级别
+     * @param nowrap 是否nowrap模式
+     * @return 压缩器
+     */
+    static Deflater deflater(final int level, final boolean nowrap) {
+        final Deflater deflater = DEFLATERS[index(level, nowrap)].poll();
+        return deflater != null ? deflater : new Deflater(level, nowrap);
+    }
+
+    /**
+     * 归还压缩器
+     *
+     * @param deflater 压缩器
+     * @param level    借出时的压缩级别
+     * @param nowrap   借出时的nowrap模式
+     */
+    static void release(final Deflater deflater, final int level, final boolean nowrap) {
+        deflater.reset();
+        if (!DEFLATERS[index(level, nowrap)].offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 借出解压器
+     *
+     * @param nowrap 是否nowrap模式
+     * @return 解压器
+     */
+    static Inflater inflater(final boolean nowrap) {
+        final Inflater inflater = INFLATERS[nowrap ? 1 : 0].poll();
+        return inflater != null ? inflater : new Inflater(nowrap);
+    }
+
+    /**
+     * 归还解压器
+     *
+     * @param inflater 解压器
+     * @param nowrap   借出时的nowrap模式
+     */
+    static void release(final Inflater inflater, final boolean nowrap) {
+        inflater.reset();
+        if (!INFLATERS[nowrap ? 1 : 0].offer(inflater)) {
+            inflater.end();
+        }
+    }
+
+    private static int index(final int level, final boolean nowrap) {
+        return (level + 1) * 2 + (nowrap ? 1 : 0);
+    }
+}
@@ -0,0 +1,73 @@
+package tomkit.core.collect;
+
+import tomkit.core.lang.Assert;
+import tomkit.core.lang.Ints;
+import tomkit.core.lang.Longs;
+
+/**
+ * 开放寻址哈希表的公共方法
+ *
+ * @author yh
+ * @since 2026/10/18
+ */
+final class Hashing {
+
+    /**
+     * 最大容量
+     */
+    static final int MAX_CAPACITY = Ints.MAX_POWER_OF_TWO;
+
+    /**
+     * 默认预期元素数量
+     */
+    static final int DEFAULT_EXPECTED_SIZE = 8;
+
+    private Hashing() {
+    }
+
+    /**
+     * 扰动哈希值，使连续的键均匀分布到各个槽位
+     *
+     * @param key 键
+     * @return 扰动后的哈希值
+     */
+    static int mix(final int key) {
+        final int h = Ints.hashCode(key) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 扰动哈希值
+     *
+     * @param key 键
+     * @return 扰动后的哈希值
+     */
+    static int mix(final long key) {
+        return mix(Longs.hashCode(key));
+    }
+
+    /**
+     * 计算能容纳expectedSize个元素且负载不超过1/2的槽位数量，为2的幂
+     *
+     * @param expectedSize 预期元素数量
+     * @return 槽位数量
+     */
+    static int tableSize(final int expectedSize) {
+        Assert.checkArgument(expectedSize >= 0, "Invalid expectedSize: " + expectedSize);
+        final long needed = Math.max(2L, (long) expectedSize * 2);
+        Assert.checkArgument(needed <= MAX_CAPACITY, "expectedSize too large: " + expectedSize);
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    /**
+     * 扩容后的槽位数量
+     *
+     * @param length 当前槽位数量
+     * @return 新的槽位数量
+     */
+    static int grow(final int length) {
+        Assert.state(length < MAX_CAPACITY, "Hash table is full");
+        return length << 1;
+    }
+
+}
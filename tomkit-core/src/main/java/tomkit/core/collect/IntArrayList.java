@@ -0,0 +1,350 @@
+package tomkit.core.collect;
+
+import tomkit.core.lang.Assert;
+import tomkit.core.lang.Ints;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * 可增长的int列表
+ * <p>
+ * 元素直接保存在{@code int[]}中，不装箱为{@link Integer}，每个元素只占4个字节；
+ * 容量不足时按1.5倍扩容。非线程安全
+ *
+ * <pre class="code">
+ *     IntArrayList list = new IntArrayList();
+ *     list.add(3);
+ *     list.addAll(1, 2);
+ *     list.sort();
+ *     list.toArray() = [1, 2, 3]
+ * </pre>
+ *
+ * @author yh
+ * @since 2026/10/18
+ */
+public final class IntArrayList {
+
+    /**
+     * 默认初始容量
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private static final int[] EMPTY = {};
+
+    private int[] elements;
+
+    private int size;
+
+    /**
+     * 创建空列表，首次添加时分配默认容量
+     */
+    public IntArrayList() {
+        this.elements = EMPTY;
+    }
+
+    /**
+     * 创建指定初始容量的空列表
+     *
+     * @param initialCapacity 初始容量
+     */
+    public IntArrayList(final int initialCapacity) {
+        Assert.checkArgument(initialCapacity >= 0, "Invalid initialCapacity: " + initialCapacity);
+        this.elements = initialCapacity == 0 ? EMPTY : new int[initialCapacity];
+    }
+
+    /**
+     * 创建包含指定元素的列表
+     *
+     * @param values 元素
+     * @return 列表
+     */
+    public static IntArrayList of(final int... values) {
+        final IntArrayList list = new IntArrayList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    /**
+     * @return 元素数量
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return 是否为空
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 获取指定位置的元素
+     *
+     * @param index 位置
+     * @return 元素
+     */
+    public int get(final int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * 替换指定位置的元素
+     *
+     * @param index 位置
+     * @param value 新元素
+     * @return 原元素
+     */
+    public int set(final int index, final int value) {
+        checkIndex(index);
+        final int old = elements[index];
+        elements[index] = value;
+        return old;
+    }
+
+    /**
+     * 在末尾添加元素
+     *
+     * @param value 元素
+     */
+    public void add(final int value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * 在指定位置插入元素，其后的元素后移
+     *
+     * @param index 位置
+     * @param value 元素
+     */
+    public void add(final int index, final int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    /**
+     * 在末尾添加多个元素
+     *
+     * @param values 元素
+     */
+    public void addAll(final int... values) {
+        addAll(values, 0, values.length);
+    }
+
+    /**
+     * 在末尾添加数组片段中的元素
+     *
+     * @param values 数组
+     * @param offset 起始位置
+     * @param length 数量
+     */
+    public void addAll(final int[] values, final int offset, final int length) {
+        if ((offset | length) < 0 || length > values.length - offset) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length);
+        }
+        ensureCapacity(size + length);
+        System.arraycopy(values, offset, elements, size, length);
+        size += length;
+    }
+
+    /**
+     * 在末尾添加另一个列表的全部元素
+     *
+     * @param other 列表
+     */
+    public void addAll(final IntArrayList other) {
+        addAll(other.elements, 0, other.size);
+    }
+
+    /**
+     * 移除指定位置的元素，其后的元素前移
+     *
+     * @param index 位置
+     * @return 被移除的元素
+     */
+    public int removeAt(final int index) {
+        checkIndex(index);
+        final int old = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return old;
+    }
+
+    /**
+     * 移除第一个等于value的元素
+     *
+     * @param value 元素
+     * @return 是否移除
+     */
+    public boolean removeValue(final int value) {
+        final int index = indexOf(value);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * @param value 元素
+     * @return 第一个等于value的元素位置，不存在时返回-1
+     */
+    public int indexOf(final int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param value 元素
+     * @return 最后一个等于value的元素位置，不存在时返回-1
+     */
+    public int lastIndexOf(final int value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param value 元素
+     * @return 是否包含value
+     */
+    public boolean contains(final int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * 清空列表，保留已分配的容量
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * 确保容量至少为minCapacity
+     *
+     * @param minCapacity 最小容量
+     */
+    public void ensureCapacity(final int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * 释放多余的容量
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * 升序排序
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * @return 包含全部元素的新数组
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * 依次处理每个元素
+     *
+     * @param action 处理函数
+     */
+    public void forEach(final IntConsumer action) {
+        Assert.notNull(action, "action cannot be null");
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    /**
+     * @return 元素流
+     */
+    public IntStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    private void grow(final int minCapacity) {
+        Assert.checkArgument(minCapacity >= 0, "Required capacity too large");
+        final int old = elements.length;
+        final int padding = Math.max(old == 0 ? DEFAULT_CAPACITY : old >> 1, 1);
+        elements = Ints.ensureCapacity(elements, minCapacity,
+                (int) Math.max(0, Math.min(padding, Integer.MAX_VALUE - 8L - minCapacity)));
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof IntArrayList)) {
+            return false;
+        }
+        final IntArrayList other = (IntArrayList) obj;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (elements[i] != other.elements[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Ints.hashCode(elements[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(size * 5 + 2).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(elements[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+}
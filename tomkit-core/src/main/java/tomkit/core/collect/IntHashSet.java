@@ -0,0 +1,276 @@
+package tomkit.core.collect;
+
+import tomkit.core.lang.Assert;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * int集合
+ * <p>
+ * 开放寻址、线性探测的哈希表，元素直接保存在{@code int[]}中，不装箱为{@link Integer}。
+ * 0作为空槽位标记，元素0单独记录；负载超过1/2时容量翻倍；删除时回移后续元素，不留墓碑。非线程安全
+ *
+ * <pre class="code">
+ *     IntHashSet set = new IntHashSet();
+ *     set.add(1)      = true
+ *     set.add(1)      = false
+ *     set.contains(1) = true
+ * </pre>
+ *
+ * @author yh
+ * @since 2026/10/18
+ */
+public final class IntHashSet {
+
+    private int[] keys;
+
+    private int mask;
+
+    private boolean containsZero;
+
+    private int size;
+
+    /**
+     * 创建空集合
+     */
+    public IntHashSet() {
+        this(Hashing.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * 创建空集合，容纳expectedSize个元素前不会扩容
+     *
+     * @param expectedSize 预期元素数量
+     */
+    public IntHashSet(final int expectedSize) {
+        allocate(Hashing.tableSize(expectedSize));
+    }
+
+    /**
+     * 创建包含指定元素的集合
+     *
+     * @param values 元素
+     * @return 集合
+     */
+    public static IntHashSet of(final int... values) {
+        final IntHashSet set = new IntHashSet(values.length);
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * @return 元素数量
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return 是否为空
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param value 元素
+     * @return 是否包含value
+     */
+    public boolean contains(final int value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        for (int i = Hashing.mix(value) & mask; ; i = (i + 1) & mask) {
+            final int key = keys[i];
+            if (key == value) {
+                return true;
+            }
+            if (key == 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 添加元素
+     *
+     * @param value 元素
+     * @return 元素原先不存在时返回{@code true}
+     */
+    public boolean add(final int value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int i = Hashing.mix(value) & mask;
+        for (int key; (key = keys[i]) != 0; i = (i + 1) & mask) {
+            if (key == value) {
+                return false;
+            }
+        }
+        keys[i] = value;
+        if (++size > (keys.length >>> 1)) {
+            rehash(Hashing.grow(keys.length));
+        }
+        return true;
+    }
+
+    /**
+     * 移除元素
+     *
+     * @param value 元素
+     * @return 元素原先存在时返回{@code true}
+     */
+    public boolean remove(final int value) {
+        if (value == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        for (int i = Hashing.mix(value) & mask; ; i = (i + 1) & mask) {
+            final int key = keys[i];
+            if (key == 0) {
+                return false;
+            }
+            if (key == value) {
+                shiftKeys(i);
+                size--;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 清空集合，保留已分配的容量
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    /**
+     * @return 包含全部元素的新数组，顺序不确定
+     */
+    public int[] toArray() {
+        final int[] result = new int[size];
+        int k = 0;
+        if (containsZero) {
+            result[k++] = 0;
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                result[k++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 依次处理每个元素，顺序不确定
+     *
+     * @param action 处理函数
+     */
+    public void forEach(final IntConsumer action) {
+        Assert.notNull(action, "action cannot be null");
+        if (containsZero) {
+            action.accept(0);
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+    }
+
+    /**
+     * 删除槽位后，把探测链上的后续元素回移到空出的位置
+     */
+    private void shiftKeys(int gap) {
+        for (int i = (gap + 1) & mask; ; i = (i + 1) & mask) {
+            final int key = keys[i];
+            if (key == 0) {
+                break;
+            }
+            final int home = Hashing.mix(key) & mask;
+            // home不在(gap, i]之间时，元素可以移到gap
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = key;
+                gap = i;
+            }
+        }
+        keys[gap] = 0;
+    }
+
+    private void allocate(final int capacity) {
+        keys = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private void rehash(final int capacity) {
+        final int[] oldKeys = keys;
+        allocate(capacity);
+        for (int key : oldKeys) {
+            if (key != 0) {
+                int i = Hashing.mix(key) & mask;
+                while (keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof IntHashSet)) {
+            return false;
+        }
+        final IntHashSet other = (IntHashSet) obj;
+        if (size != other.size || containsZero != other.containsZero) {
+            return false;
+        }
+        for (int key : keys) {
+            if (key != 0 && !other.contains(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // 与Set<Integer>的hashCode一致：元素哈希值之和
+        int result = 0;
+        for (int key : keys) {
+            result += key;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder().append('[');
+        forEach(value -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(value);
+        });
+        return builder.append(']').toString();
+    }
+
+}
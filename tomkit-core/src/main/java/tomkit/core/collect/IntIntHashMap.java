@@ -0,0 +1,375 @@
+package tomkit.core.collect;
+
+import tomkit.core.function.IntIntConsumer;
+import tomkit.core.lang.Assert;
+
+import java.util.Arrays;
+
+/**
+ * int到int的映射
+ * <p>
+ * 开放寻址、线性探测的哈希表，键和值分别保存在两个{@code int[]}中，不装箱也不创建Entry对象。
+ * 0作为空槽位标记，键0单独记录；负载超过1/2时容量翻倍；删除时回移后续元素，不留墓碑。
+ * 键不存在时，查询类方法返回创建时指定的缺省值（默认为0）。非线程安全
+ *
+ * <pre class="code">
+ *     IntIntHashMap counts = new IntIntHashMap();
+ *     counts.addTo(7, 1);
+ *     counts.addTo(7, 1);
+ *     counts.get(7)      = 2
+ *     counts.get(8)      = 0
+ * </pre>
+ *
+ * @author yh
+ * @since 2026/10/18
+ */
+public final class IntIntHashMap {
+
+    private final int missingValue;
+
+    private int[] keys;
+
+    private int[] values;
+
+    private int mask;
+
+    private boolean containsZeroKey;
+
+    private int zeroValue;
+
+    private int size;
+
+    /**
+     * 创建空映射，缺省值为0
+     */
+    public IntIntHashMap() {
+        this(Hashing.DEFAULT_EXPECTED_SIZE, 0);
+    }
+
+    /**
+     * 创建空映射，缺省值为0，容纳expectedSize个键前不会扩容
+     *
+     * @param expectedSize 预期键数量
+     */
+    public IntIntHashMap(final int expectedSize) {
+        this(expectedSize, 0);
+    }
+
+    /**
+     * 创建空映射，容纳expectedSize个键前不会扩容
+     *
+     * @param expectedSize 预期键数量
+     * @param missingValue 键不存在时返回的缺省值
+     */
+    public IntIntHashMap(final int expectedSize, final int missingValue) {
+        this.missingValue = missingValue;
+        allocate(Hashing.tableSize(expectedSize));
+    }
+
+    /**
+     * @return 键不存在时返回的缺省值
+     */
+    public int missingValue() {
+        return missingValue;
+    }
+
+    /**
+     * @return 键值对数量
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return 是否为空
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param key 键
+     * @return 是否包含key
+     */
+    public boolean containsKey(final int key) {
+        if (key == 0) {
+            return containsZeroKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * @param key 键
+     * @return key对应的值，不存在时返回缺省值
+     */
+    public int get(final int key) {
+        return getOrDefault(key, missingValue);
+    }
+
+    /**
+     * @param key          键
+     * @param defaultValue 键不存在时返回的值
+     * @return key对应的值，不存在时返回defaultValue
+     */
+    public int getOrDefault(final int key, final int defaultValue) {
+        if (key == 0) {
+            return containsZeroKey ? zeroValue : defaultValue;
+        }
+        final int index = indexOf(key);
+        return index >= 0 ? values[index] : defaultValue;
+    }
+
+    /**
+     * 放入键值对
+     *
+     * @param key   键
+     * @param value 值
+     * @return 原先的值，不存在时返回缺省值
+     */
+    public int put(final int key, final int value) {
+        if (key == 0) {
+            final int previous = containsZeroKey ? zeroValue : missingValue;
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+        int i = Hashing.mix(key) & mask;
+        for (int k; (k = keys[i]) != 0; i = (i + 1) & mask) {
+            if (k == key) {
+                final int previous = values[i];
+                values[i] = value;
+                return previous;
+            }
+        }
+        insert(i, key, value);
+        return missingValue;
+    }
+
+    /**
+     * 将key对应的值加上delta，键不存在时以缺省值为初始值，适合计数
+     *
+     * @param key   键
+     * @param delta 增量
+     * @return 新的值
+     */
+    public int addTo(final int key, final int delta) {
+        if (key == 0) {
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                zeroValue = missingValue;
+                size++;
+            }
+            return zeroValue += delta;
+        }
+        int i = Hashing.mix(key) & mask;
+        for (int k; (k = keys[i]) != 0; i = (i + 1) & mask) {
+            if (k == key) {
+                return values[i] += delta;
+            }
+        }
+        final int value = missingValue + delta;
+        insert(i, key, value);
+        return value;
+    }
+
+    /**
+     * 移除键
+     *
+     * @param key 键
+     * @return 原先的值，不存在时返回缺省值
+     */
+    public int remove(final int key) {
+        if (key == 0) {
+            if (!containsZeroKey) {
+                return missingValue;
+            }
+            containsZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+        final int index = indexOf(key);
+        if (index < 0) {
+            return missingValue;
+        }
+        final int previous = values[index];
+        shiftKeys(index);
+        size--;
+        return previous;
+    }
+
+    /**
+     * 清空映射，保留已分配的容量
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        containsZeroKey = false;
+        size = 0;
+    }
+
+    /**
+     * 依次处理每个键值对，顺序不确定
+     *
+     * @param action 处理函数，参数依次为键和值
+     */
+    public void forEach(final IntIntConsumer action) {
+        Assert.notNull(action, "action cannot be null");
+        if (containsZeroKey) {
+            action.accept(0, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * @return 包含全部键的新数组，顺序不确定
+     */
+    public int[] keys() {
+        final int[] result = new int[size];
+        int k = 0;
+        if (containsZeroKey) {
+            result[k++] = 0;
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                result[k++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return 包含全部值的新数组，顺序与{@link #keys()}一致
+     */
+    public int[] values() {
+        final int[] result = new int[size];
+        int k = 0;
+        if (containsZeroKey) {
+            result[k++] = zeroValue;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                result[k++] = values[i];
+            }
+        }
+        return result;
+    }
+
+    private int indexOf(final int key) {
+        for (int i = Hashing.mix(key) & mask; ; i = (i + 1) & mask) {
+            final int k = keys[i];
+            if (k == key) {
+                return i;
+            }
+            if (k == 0) {
+                return -1;
+            }
+        }
+    }
+
+    private void insert(final int index, final int key, final int value) {
+        keys[index] = key;
+        values[index] = value;
+        if (++size > (keys.length >>> 1)) {
+            rehash(Hashing.grow(keys.length));
+        }
+    }
+
+    /**
+     * 删除槽位后，把探测链上的后续键值对回移到空出的位置
+     */
+    private void shiftKeys(int gap) {
+        for (int i = (gap + 1) & mask; ; i = (i + 1) & mask) {
+            final int key = keys[i];
+            if (key == 0) {
+                break;
+            }
+            final int home = Hashing.mix(key) & mask;
+            // home不在(gap, i]之间时，键值对可以移到gap
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = 0;
+    }
+
+    private void allocate(final int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private void rehash(final int capacity) {
+        final int[] oldKeys = keys;
+        final int[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            final int key = oldKeys[j];
+            if (key != 0) {
+                int i = Hashing.mix(key) & mask;
+                while (keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof IntIntHashMap)) {
+            return false;
+        }
+        final IntIntHashMap other = (IntIntHashMap) obj;
+        if (size != other.size || containsZeroKey != other.containsZeroKey
+                || (containsZeroKey && zeroValue != other.zeroValue)) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            final int key = keys[i];
+            if (key != 0) {
+                final int index = other.indexOf(key);
+                if (index < 0 || other.values[index] != values[i]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // 与Map<Integer, Integer>的hashCode一致：每个键值对的键哈希值异或值哈希值之和
+        int result = containsZeroKey ? zeroValue : 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                result += keys[i] ^ values[i];
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder().append('{');
+        forEach((key, value) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+
+}
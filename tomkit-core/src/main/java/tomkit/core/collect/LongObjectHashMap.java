@@ -0,0 +1,317 @@
+package tomkit.core.collect;
+
+import tomkit.core.function.LongObjectConsumer;
+import tomkit.core.lang.Assert;
+import tomkit.core.lang.Longs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * long到对象的映射
+ * <p>
+ * 开放寻址、线性探测的哈希表，键保存在{@code long[]}中，不装箱为{@link Long}，也不创建Entry对象。
+ * 值不能为{@code null}，值为{@code null}的槽位即为空槽位；负载超过1/2时容量翻倍；删除时回移后续元素，不留墓碑。非线程安全
+ *
+ * <pre class="code">
+ *     LongObjectHashMap&lt;User&gt; users = new LongObjectHashMap&lt;&gt;();
+ *     users.put(1L, user);
+ *     users.get(1L)  = user
+ *     users.get(2L)  = null
+ *     users.computeIfAbsent(2L, id -&gt; load(id))
+ * </pre>
+ *
+ * @param <V> 值类型
+ * @author yh
+ * @since 2026/10/18
+ */
+public final class LongObjectHashMap<V> {
+
+    private long[] keys;
+
+    private Object[] values;
+
+    private int mask;
+
+    private int size;
+
+    /**
+     * 创建空映射
+     */
+    public LongObjectHashMap() {
+        this(Hashing.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * 创建空映射，容纳expectedSize个键前不会扩容
+     *
+     * @param expectedSize 预期键数量
+     */
+    public LongObjectHashMap(final int expectedSize) {
+        allocate(Hashing.tableSize(expectedSize));
+    }
+
+    /**
+     * @return 键值对数量
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return 是否为空
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param key 键
+     * @return 是否包含key
+     */
+    public boolean containsKey(final long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * @param key 键
+     * @return key对应的值，不存在时返回{@code null}
+     */
+    public V get(final long key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * @param key          键
+     * @param defaultValue 键不存在时返回的值
+     * @return key对应的值，不存在时返回defaultValue
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(final long key, final V defaultValue) {
+        final int index = indexOf(key);
+        return index >= 0 ? (V) values[index] : defaultValue;
+    }
+
+    /**
+     * 放入键值对
+     *
+     * @param key   键
+     * @param value 值，不能为{@code null}
+     * @return 原先的值，不存在时返回{@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public V put(final long key, final V value) {
+        Assert.notNull(value, "value cannot be null");
+        int i = Hashing.mix(key) & mask;
+        for (Object v; (v = values[i]) != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return (V) v;
+            }
+        }
+        insert(i, key, value);
+        return null;
+    }
+
+    /**
+     * 获取key对应的值，不存在时用mappingFunction计算并放入
+     *
+     * @param key             键
+     * @param mappingFunction 计算函数，返回{@code null}时不放入
+     * @return key对应的值
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(final long key, final LongFunction<? extends V> mappingFunction) {
+        Assert.notNull(mappingFunction, "mappingFunction cannot be null");
+        final int index = indexOf(key);
+        if (index >= 0) {
+            return (V) values[index];
+        }
+        final V value = mappingFunction.apply(key);
+        if (value != null) {
+            // 计算函数可能修改了映射，删除时的回移会改变槽位，因此重新定位而不是使用之前探测到的空槽位
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * 移除键
+     *
+     * @param key 键
+     * @return 原先的值，不存在时返回{@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(final long key) {
+        final int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        final V previous = (V) values[index];
+        shiftKeys(index);
+        size--;
+        return previous;
+    }
+
+    /**
+     * 清空映射，保留已分配的容量
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * 依次处理每个键值对，顺序不确定
+     *
+     * @param action 处理函数，参数依次为键和值
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(final LongObjectConsumer<? super V> action) {
+        Assert.notNull(action, "action cannot be null");
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * @return 包含全部键的新数组，顺序不确定
+     */
+    public long[] keys() {
+        final long[] result = new long[size];
+        int k = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                result[k++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return 包含全部值的新列表，顺序与{@link #keys()}一致
+     */
+    @SuppressWarnings("unchecked")
+    public List<V> values() {
+        final List<V> result = new ArrayList<>(size);
+        for (Object value : values) {
+            if (value != null) {
+                result.add((V) value);
+            }
+        }
+        return result;
+    }
+
+    private int indexOf(final long key) {
+        for (int i = Hashing.mix(key) & mask; ; i = (i + 1) & mask) {
+            if (values[i] == null) {
+                return -1;
+            }
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+    }
+
+    private void insert(final int index, final long key, final V value) {
+        keys[index] = key;
+        values[index] = value;
+        if (++size > (keys.length >>> 1)) {
+            rehash(Hashing.grow(keys.length));
+        }
+    }
+
+    /**
+     * 删除槽位后，把探测链上的后续键值对回移到空出的位置
+     */
+    private void shiftKeys(int gap) {
+        for (int i = (gap + 1) & mask; ; i = (i + 1) & mask) {
+            final Object value = values[i];
+            if (value == null) {
+                break;
+            }
+            final int home = Hashing.mix(keys[i]) & mask;
+            // home不在(gap, i]之间时，键值对可以移到gap
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = value;
+                gap = i;
+            }
+        }
+        values[gap] = null;
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private void rehash(final int capacity) {
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldValues.length; j++) {
+            if (oldValues[j] != null) {
+                int i = Hashing.mix(oldKeys[j]) & mask;
+                while (values[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof LongObjectHashMap)) {
+            return false;
+        }
+        final LongObjectHashMap<?> other = (LongObjectHashMap<?>) obj;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                final int index = other.indexOf(keys[i]);
+                if (index < 0 || !values[i].equals(other.values[index])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // 与Map<Long, V>的hashCode一致：每个键值对的键哈希值异或值哈希值之和
+        int result = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                result += Longs.hashCode(keys[i]) ^ values[i].hashCode();
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder().append('{');
+        forEach((key, value) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(value == this ? "(this Map)" : value);
+        });
+        return builder.append('}').toString();
+    }
+
+}
@@ -0,0 +1,1477 @@
+package tomkit.core.collect;
+
+import tomkit.core.codec.DecoderException;
+import tomkit.core.lang.Assert;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 压缩位图，参考Roaring Bitmap的实现
+ * <p>
+ * int按高16位分桶，每个桶按低16位的分布选择容器：不超过{@value #ARRAY_MAX}个值时用有序的{@code char[]}，
+ * 更多时用8KB的位图；调用{@link #runOptimize()}后，连续的值会改用游程保存。
+ * 稀疏集合每个值约2个字节，稠密集合与{@link java.util.BitSet}相当，且支持负数。
+ * 集合运算按桶进行，跳过只在一侧出现的桶。迭代顺序为有符号升序，与{@link tomkit.core.lang.Ints}的有序数组方法一致。非线程安全
+ *
+ * <pre class="code">
+ *     RoaringBitmap a = RoaringBitmap.of(1, 2, 3, 1000000);
+ *     RoaringBitmap b = RoaringBitmap.of(2, 3, 4);
+ *     RoaringBitmap.and(a, b).toArray()    = [2, 3]
+ *     RoaringBitmap.or(a, b).cardinality() = 5
+ *     RoaringBitmap.andNot(a, b).toArray() = [1, 1000000]
+ * </pre>
+ *
+ * @author yh
+ * @since 2026/10/18
+ */
+public final class RoaringBitmap {
+
+    /**
+     * 数组容器的最大元素数，超过后改用位图容器，此时两者都占8KB
+     */
+    static final int ARRAY_MAX = 4096;
+
+    /**
+     * 位图容器的long数量
+     */
+    private static final int BITMAP_WORDS = 1024;
+
+    private static final byte ARRAY = 0;
+    private static final byte BITMAP = 1;
+    private static final byte RUN = 2;
+
+    /**
+     * 高16位，按无符号数升序排列
+     */
+    private char[] keys;
+
+    private Container[] containers;
+
+    private int size;
+
+    /**
+     * 创建空位图
+     */
+    public RoaringBitmap() {
+        this.keys = new char[4];
+        this.containers = new Container[4];
+    }
+
+    private RoaringBitmap(final int capacity) {
+        this.keys = new char[Math.max(capacity, 4)];
+        this.containers = new Container[Math.max(capacity, 4)];
+    }
+
+    /**
+     * 创建包含指定值的位图
+     *
+     * @param values 值
+     * @return 位图
+     */
+    public static RoaringBitmap of(final int... values) {
+        final RoaringBitmap bitmap = new RoaringBitmap();
+        bitmap.addAll(values, 0, values.length);
+        return bitmap;
+    }
+
+    /**
+     * 添加值
+     *
+     * @param value 值
+     * @return 值原先不存在时返回{@code true}
+     */
+    public boolean add(final int value) {
+        final int unsigned = value ^ Integer.MIN_VALUE;
+        final char high = (char) (unsigned >>> 16);
+        final int index = indexOf(high);
+        if (index >= 0) {
+            final Container container = containers[index];
+            final int before = container.cardinality();
+            containers[index] = container.add((char) unsigned);
+            return containers[index].cardinality() != before;
+        }
+        insert(-index - 1, high, new ArrayContainer().add((char) unsigned));
+        return true;
+    }
+
+    /**
+     * 添加数组片段中的值，有序的数组更快
+     *
+     * @param values 数组
+     * @param offset 起始位置
+     * @param length 数量
+     */
+    public void addAll(final int[] values, final int offset, final int length) {
+        if ((offset | length) < 0 || length > values.length - offset) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length);
+        }
+        int index = -1;
+        char high = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final int unsigned = values[i] ^ Integer.MIN_VALUE;
+            final char h = (char) (unsigned >>> 16);
+            // 相邻的值通常在同一个桶，避免重复查找
+            if (index < 0 || h != high) {
+                high = h;
+                index = indexOf(high);
+                if (index < 0) {
+                    index = -index - 1;
+                    insert(index, high, new ArrayContainer());
+                }
+            }
+            containers[index] = containers[index].add((char) unsigned);
+        }
+    }
+
+    /**
+     * 添加列表中的全部值
+     *
+     * @param list 列表
+     */
+    public void addAll(final IntArrayList list) {
+        list.forEach(this::add);
+    }
+
+    /**
+     * 添加{@code [from, to)}之间的全部值
+     *
+     * @param from 起始值，包含
+     * @param to   结束值，不包含
+     */
+    public void addRange(final int from, final int to) {
+        if (from >= to) {
+            return;
+        }
+        final long start = (from ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+        final long last = ((to ^ Integer.MIN_VALUE) & 0xFFFFFFFFL) - 1;
+        for (long high = start >>> 16; high <= last >>> 16; high++) {
+            final int low = high == start >>> 16 ? (int) (start & 0xFFFF) : 0;
+            final int lastLow = high == last >>> 16 ? (int) (last & 0xFFFF) : 0xFFFF;
+            final int index = indexOf((char) high);
+            if (index >= 0) {
+                containers[index] = containers[index].addRange(low, lastLow);
+            } else {
+                insert(-index - 1, (char) high, RunContainer.ofRange(low, lastLow));
+            }
+        }
+    }
+
+    /**
+     * 移除值
+     *
+     * @param value 值
+     * @return 值原先存在时返回{@code true}
+     */
+    public boolean remove(final int value) {
+        final int unsigned = value ^ Integer.MIN_VALUE;
+        final int index = indexOf((char) (unsigned >>> 16));
+        if (index < 0) {
+            return false;
+        }
+        final Container container = containers[index];
+        final int before = container.cardinality();
+        final Container after = container.remove((char) unsigned);
+        if (after.cardinality() == 0) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+            containers[--size] = null;
+        } else {
+            containers[index] = after;
+        }
+        return after.cardinality() != before;
+    }
+
+    /**
+     * @param value 值
+     * @return 是否包含value
+     */
+    public boolean contains(final int value) {
+        final int unsigned = value ^ Integer.MIN_VALUE;
+        final int index = indexOf((char) (unsigned >>> 16));
+        return index >= 0 && containers[index].contains((char) unsigned);
+    }
+
+    /**
+     * @return 值的数量
+     */
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * @return 是否为空
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 清空位图
+     */
+    public void clear() {
+        Arrays.fill(containers, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * 把连续值较多的容器改为游程保存，适合批量添加完成后调用。之后修改这些容器会使其恢复为数组或位图
+     *
+     * @return 是否有容器改变
+     */
+    public boolean runOptimize() {
+        boolean changed = false;
+        for (int i = 0; i < size; i++) {
+            final Container optimized = containers[i].runOptimize();
+            changed |= optimized != containers[i];
+            containers[i] = optimized;
+        }
+        return changed;
+    }
+
+    /**
+     * 交集，不修改参数
+     *
+     * @param a 位图
+     * @param b 位图
+     * @return 新的位图
+     */
+    public static RoaringBitmap and(final RoaringBitmap a, final RoaringBitmap b) {
+        final RoaringBitmap result = new RoaringBitmap(Math.min(a.size, b.size));
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                result.append(a.keys[i], a.containers[i].and(b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 并集，不修改参数
+     *
+     * @param a 位图
+     * @param b 位图
+     * @return 新的位图
+     */
+    public static RoaringBitmap or(final RoaringBitmap a, final RoaringBitmap b) {
+        final RoaringBitmap result = new RoaringBitmap(a.size + b.size);
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                result.append(a.keys[i], a.containers[i].copy());
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                result.append(b.keys[j], b.containers[j].copy());
+                j++;
+            } else {
+                result.append(a.keys[i], a.containers[i].or(b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        for (; i < a.size; i++) {
+            result.append(a.keys[i], a.containers[i].copy());
+        }
+        for (; j < b.size; j++) {
+            result.append(b.keys[j], b.containers[j].copy());
+        }
+        return result;
+    }
+
+    /**
+     * 差集，即在a中但不在b中的值，不修改参数
+     *
+     * @param a 位图
+     * @param b 位图
+     * @return 新的位图
+     */
+    public static RoaringBitmap andNot(final RoaringBitmap a, final RoaringBitmap b) {
+        final RoaringBitmap result = new RoaringBitmap(a.size);
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                result.append(a.keys[i], a.containers[i].copy());
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                result.append(a.keys[i], a.containers[i].andNot(b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        for (; i < a.size; i++) {
+            result.append(a.keys[i], a.containers[i].copy());
+        }
+        return result;
+    }
+
+    /**
+     * 计算交集的值数量，不创建交集
+     *
+     * @param a 位图
+     * @param b 位图
+     * @return 交集的值数量
+     */
+    public static long andCardinality(final RoaringBitmap a, final RoaringBitmap b) {
+        long cardinality = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                cardinality += a.containers[i].andCardinality(b.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return cardinality;
+    }
+
+    /**
+     * 按升序依次处理每个值
+     *
+     * @param action 处理函数
+     */
+    public void forEach(final IntConsumer action) {
+        Assert.notNull(action, "action cannot be null");
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * @return 按升序排列的全部值，可直接用于{@link tomkit.core.lang.Ints#intersectSorted}等方法
+     */
+    public int[] toArray() {
+        final long cardinality = cardinality();
+        Assert.state(cardinality <= Integer.MAX_VALUE - 8, "Too many values for an array: " + cardinality);
+        final int[] result = new int[(int) cardinality];
+        int offset = 0;
+        for (int i = 0; i < size; i++) {
+            offset = containers[i].fill(result, offset, keys[i] << 16);
+        }
+        return result;
+    }
+
+    /**
+     * @return 按升序排列的值迭代器
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new BitmapIterator();
+    }
+
+    /**
+     * @return 按升序排列的值流
+     */
+    public IntStream stream() {
+        final long cardinality = cardinality();
+        return StreamSupport.intStream(Spliterators.spliterator(iterator(), cardinality,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * @return 估算的内存占用字节数
+     */
+    public long sizeInBytes() {
+        long bytes = 16 + 16 + keys.length * 2L + 16 + containers.length * 4L;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * @return {@link #serialize(ByteBuffer)}写入的字节数
+     */
+    public int serializedSizeInBytes() {
+        long bytes = 4;
+        for (int i = 0; i < size; i++) {
+            bytes += 3 + containers[i].serializedSizeInBytes();
+        }
+        return (int) bytes;
+    }
+
+    /**
+     * 按缓冲区的字节序写入位图，反序列化时需使用相同的字节序
+     *
+     * @param buffer 目标
+     * @throws java.nio.BufferOverflowException 剩余空间不足时抛出
+     */
+    public void serialize(final ByteBuffer buffer) {
+        buffer.putInt(size);
+        for (int i = 0; i < size; i++) {
+            buffer.putChar(keys[i]);
+            buffer.put(containers[i].type());
+            containers[i].serialize(buffer);
+        }
+    }
+
+    /**
+     * 读取{@link #serialize(ByteBuffer)}写入的位图
+     *
+     * @param buffer 来源
+     * @return 位图
+     * @throws DecoderException                  数据格式错误时抛出
+     * @throws java.nio.BufferUnderflowException 数据不完整时抛出
+     */
+    public static RoaringBitmap deserialize(final ByteBuffer buffer) throws DecoderException {
+        final int size = buffer.getInt();
+        if (size < 0 || size > 1 << 16) {
+            throw new DecoderException("Invalid container count: " + size);
+        }
+        final RoaringBitmap bitmap = new RoaringBitmap(size);
+        for (int i = 0; i < size; i++) {
+            final char key = buffer.getChar();
+            if (i > 0 && key <= bitmap.keys[i - 1]) {
+                throw new DecoderException("Container keys are not ascending at " + i);
+            }
+            final byte type = buffer.get();
+            final Container container;
+            if (type == ARRAY) {
+                container = ArrayContainer.deserialize(buffer);
+            } else if (type == BITMAP) {
+                container = BitmapContainer.deserialize(buffer);
+            } else if (type == RUN) {
+                container = RunContainer.deserialize(buffer);
+            } else {
+                throw new DecoderException("Invalid container type: " + type);
+            }
+            bitmap.append(key, container);
+        }
+        return bitmap;
+    }
+
+    private int indexOf(final char high) {
+        // 顺序添加时最常命中最后一个桶
+        if (size > 0 && keys[size - 1] == high) {
+            return size - 1;
+        }
+        return Arrays.binarySearch(keys, 0, size, high);
+    }
+
+    private void insert(final int index, final char high, final Container container) {
+        if (size == keys.length) {
+            final int capacity = Math.min(size * 2, 1 << 16);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = high;
+        containers[index] = container;
+        size++;
+    }
+
+    /**
+     * 在末尾追加容器，空容器不追加
+     */
+    private void append(final char high, final Container container) {
+        if (container.cardinality() > 0) {
+            insert(size, high, container);
+        }
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof RoaringBitmap)) {
+            return false;
+        }
+        final RoaringBitmap other = (RoaringBitmap) obj;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (keys[i] != other.keys[i] || containers[i].cardinality() != other.containers[i].cardinality()
+                    || containers[i].andCardinality(other.containers[i]) != containers[i].cardinality()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // 与Set<Integer>的hashCode一致：值之和
+        final int[] sum = new int[1];
+        forEach(value -> sum[0] += value);
+        return sum[0];
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder().append('{');
+        forEach(value -> {
+            if (builder.length() > 1) {
+                builder.append(',');
+            }
+            builder.append(value);
+        });
+        return builder.append('}').toString();
+    }
+
+    /**
+     * 按桶依次迭代
+     */
+    private final class BitmapIterator implements PrimitiveIterator.OfInt {
+
+        private int index;
+        private LowIterator current;
+
+        private BitmapIterator() {
+            advance();
+        }
+
+        private void advance() {
+            while ((current == null || !current.hasNext()) && index < size) {
+                current = containers[index++].iterator();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != null && current.hasNext();
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final int value = ((keys[index - 1] << 16) | current.next()) ^ Integer.MIN_VALUE;
+            if (!current.hasNext()) {
+                advance();
+            }
+            return value;
+        }
+    }
+
+    /**
+     * 低16位迭代器
+     */
+    private interface LowIterator {
+        boolean hasNext();
+
+        int next();
+    }
+
+    /**
+     * 一个桶内低16位的集合。修改操作返回修改后的容器，可能是另一种容器
+     */
+    private abstract static class Container {
+
+        abstract byte type();
+
+        abstract int cardinality();
+
+        abstract boolean contains(char low);
+
+        abstract Container add(char low);
+
+        abstract Container remove(char low);
+
+        /**
+         * 添加[low, lastLow]之间的全部值
+         */
+        abstract Container addRange(int low, int lastLow);
+
+        abstract Container copy();
+
+        abstract void forEach(int high, IntConsumer action);
+
+        /**
+         * 写入有符号值，返回写入后的位置
+         */
+        abstract int fill(int[] dst, int offset, int high);
+
+        abstract LowIterator iterator();
+
+        abstract int sizeInBytes();
+
+        abstract int serializedSizeInBytes();
+
+        abstract void serialize(ByteBuffer buffer);
+
+        /**
+         * 转为数组或位图容器，其它容器的集合运算都先转换
+         */
+        abstract Container materialize();
+
+        abstract BitmapContainer toBitmap();
+
+        /**
+         * 按占用空间选择数组、位图或游程容器
+         */
+        Container runOptimize() {
+            final Container container = materialize();
+            final int runs = container.numberOfRuns();
+            final int runBytes = RunContainer.sizeInBytes(runs);
+            final int cardinality = container.cardinality();
+            final int plainBytes = cardinality <= ARRAY_MAX ? ArrayContainer.sizeInBytes(cardinality)
+                    : BitmapContainer.SIZE_IN_BYTES;
+            if (runBytes < plainBytes) {
+                return RunContainer.of(container, runs);
+            }
+            return container;
+        }
+
+        /**
+         * @return 连续区间的数量
+         */
+        abstract int numberOfRuns();
+
+        final Container and(final Container other) {
+            final Container a = materialize();
+            final Container b = other.materialize();
+            if (a instanceof ArrayContainer) {
+                return b instanceof ArrayContainer ? ((ArrayContainer) a).and((ArrayContainer) b)
+                        : ((ArrayContainer) a).and((BitmapContainer) b);
+            }
+            return b instanceof ArrayContainer ? ((ArrayContainer) b).and((BitmapContainer) a)
+                    : ((BitmapContainer) a).and((BitmapContainer) b);
+        }
+
+        final Container or(final Container other) {
+            final Container a = materialize();
+            final Container b = other.materialize();
+            if (a instanceof ArrayContainer) {
+                return b instanceof ArrayContainer ? ((ArrayContainer) a).or((ArrayContainer) b)
+                        : ((BitmapContainer) b).or((ArrayContainer) a);
+            }
+            return b instanceof ArrayContainer ? ((BitmapContainer) a).or((ArrayContainer) b)
+                    : ((BitmapContainer) a).or((BitmapContainer) b);
+        }
+
+        final Container andNot(final Container other) {
+            final Container a = materialize();
+            final Container b = other.materialize();
+            if (a instanceof ArrayContainer) {
+                return b instanceof ArrayContainer ? ((ArrayContainer) a).andNot((ArrayContainer) b)
+                        : ((ArrayContainer) a).andNot((BitmapContainer) b);
+            }
+            return b instanceof ArrayContainer ? ((BitmapContainer) a).andNot((ArrayContainer) b)
+                    : ((BitmapContainer) a).andNot((BitmapContainer) b);
+        }
+
+        final int andCardinality(final Container other) {
+            final Container a = materialize();
+            final Container b = other.materialize();
+            if (a instanceof ArrayContainer) {
+                return b instanceof ArrayContainer ? ((ArrayContainer) a).andCardinality((ArrayContainer) b)
+                        : ((ArrayContainer) a).andCardinality((BitmapContainer) b);
+            }
+            return b instanceof ArrayContainer ? ((ArrayContainer) b).andCardinality((BitmapContainer) a)
+                    : ((BitmapContainer) a).andCardinality((BitmapContainer) b);
+        }
+    }
+
+    /**
+     * 有序数组容器
+     */
+    private static final class ArrayContainer extends Container {
+
+        private char[] content;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(final char[] content, final int cardinality) {
+            this.content = content;
+            this.cardinality = cardinality;
+        }
+
+        static int sizeInBytes(final int cardinality) {
+            return 16 + 4 + 16 + cardinality * 2;
+        }
+
+        static ArrayContainer deserialize(final ByteBuffer buffer) throws DecoderException {
+            final int cardinality = buffer.getChar();
+            if (cardinality == 0 || cardinality > ARRAY_MAX) {
+                throw new DecoderException("Invalid array container cardinality: " + cardinality);
+            }
+            final char[] content = new char[cardinality];
+            buffer.asCharBuffer().get(content);
+            buffer.position(buffer.position() + cardinality * 2);
+            for (int i = 1; i < cardinality; i++) {
+                if (content[i] <= content[i - 1]) {
+                    throw new DecoderException("Array container values are not ascending");
+                }
+            }
+            return new ArrayContainer(content, cardinality);
+        }
+
+        @Override
+        byte type() {
+            return ARRAY;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(final char low) {
+            return Arrays.binarySearch(content, 0, cardinality, low) >= 0;
+        }
+
+        @Override
+        Container add(final char low) {
+            // 顺序添加时直接追加
+            if (cardinality == 0 || content[cardinality - 1] < low) {
+                if (cardinality >= ARRAY_MAX) {
+                    return toBitmap().add(low);
+                }
+                ensureCapacity(cardinality + 1);
+                content[cardinality++] = low;
+                return this;
+            }
+            final int index = Arrays.binarySearch(content, 0, cardinality, low);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality >= ARRAY_MAX) {
+                return toBitmap().add(low);
+            }
+            final int insertion = -index - 1;
+            ensureCapacity(cardinality + 1);
+            System.arraycopy(content, insertion, content, insertion + 1, cardinality - insertion);
+            content[insertion] = low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(final char low) {
+            final int index = Arrays.binarySearch(content, 0, cardinality, low);
+            if (index >= 0) {
+                System.arraycopy(content, index + 1, content, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        Container addRange(final int low, final int lastLow) {
+            final BitmapContainer bitmap = toBitmap();
+            bitmap.setRange(low, lastLow);
+            return bitmap.cardinality() <= ARRAY_MAX ? bitmap.toArray() : bitmap;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(content, cardinality), cardinality);
+        }
+
+        @Override
+        void forEach(final int high, final IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept((high | content[i]) ^ Integer.MIN_VALUE);
+            }
+        }
+
+        @Override
+        int fill(final int[] dst, int offset, final int high) {
+            for (int i = 0; i < cardinality; i++) {
+                dst[offset++] = (high | content[i]) ^ Integer.MIN_VALUE;
+            }
+            return offset;
+        }
+
+        @Override
+        LowIterator iterator() {
+            return new LowIterator() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < cardinality;
+                }
+
+                @Override
+                public int next() {
+                    return content[index++];
+                }
+            };
+        }
+
+        @Override
+        int sizeInBytes() {
+            return 16 + 4 + 16 + content.length * 2;
+        }
+
+        @Override
+        int serializedSizeInBytes() {
+            return 2 + cardinality * 2;
+        }
+
+        @Override
+        void serialize(final ByteBuffer buffer) {
+            buffer.putChar((char) cardinality);
+            buffer.asCharBuffer().put(content, 0, cardinality);
+            buffer.position(buffer.position() + cardinality * 2);
+        }
+
+        @Override
+        Container materialize() {
+            return this;
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            final BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.words[content[i] >>> 6] |= 1L << content[i];
+            }
+            bitmap.cardinality = cardinality;
+            return bitmap;
+        }
+
+        @Override
+        int numberOfRuns() {
+            int runs = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (i == 0 || content[i] != content[i - 1] + 1) {
+                    runs++;
+                }
+            }
+            return runs;
+        }
+
+        Container and(final ArrayContainer other) {
+            final char[] result = new char[Math.min(cardinality, other.cardinality)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < other.cardinality) {
+                final char x = content[i];
+                final char y = other.content[j];
+                if (x < y) {
+                    i++;
+                } else if (x > y) {
+                    j++;
+                } else {
+                    result[count++] = x;
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        Container and(final BitmapContainer other) {
+            final char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(content[i])) {
+                    result[count++] = content[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        Container or(final ArrayContainer other) {
+            if (cardinality + other.cardinality > ARRAY_MAX) {
+                // 重复的值较多时结果仍可能放得进数组
+                final BitmapContainer bitmap = toBitmap();
+                for (int i = 0; i < other.cardinality; i++) {
+                    bitmap.add(other.content[i]);
+                }
+                return bitmap.cardinality() <= ARRAY_MAX ? bitmap.toArray() : bitmap;
+            }
+            final char[] result = new char[cardinality + other.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < other.cardinality) {
+                final char x = content[i];
+                final char y = other.content[j];
+                if (x < y) {
+                    result[count++] = x;
+                    i++;
+                } else if (x > y) {
+                    result[count++] = y;
+                    j++;
+                } else {
+                    result[count++] = x;
+                    i++;
+                    j++;
+                }
+            }
+            while (i < cardinality) {
+                result[count++] = content[i++];
+            }
+            while (j < other.cardinality) {
+                result[count++] = other.content[j++];
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        Container andNot(final ArrayContainer other) {
+            final char[] result = new char[cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < other.cardinality) {
+                final char x = content[i];
+                final char y = other.content[j];
+                if (x < y) {
+                    result[count++] = x;
+                    i++;
+                } else if (x > y) {
+                    j++;
+                } else {
+                    i++;
+                    j++;
+                }
+            }
+            while (i < cardinality) {
+                result[count++] = content[i++];
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        Container andNot(final BitmapContainer other) {
+            final char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(content[i])) {
+                    result[count++] = content[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        int andCardinality(final ArrayContainer other) {
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < other.cardinality) {
+                final char x = content[i];
+                final char y = other.content[j];
+                if (x < y) {
+                    i++;
+                } else if (x > y) {
+                    j++;
+                } else {
+                    count++;
+                    i++;
+                    j++;
+                }
+            }
+            return count;
+        }
+
+        int andCardinality(final BitmapContainer other) {
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(content[i])) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private void ensureCapacity(final int minCapacity) {
+            if (content.length < minCapacity) {
+                final int capacity = content.length < 64 ? content.length * 2 : content.length + (content.length >> 1);
+                content = Arrays.copyOf(content, Math.min(Math.max(capacity, minCapacity), ARRAY_MAX));
+            }
+        }
+    }
+
+    /**
+     * 位图容器
+     */
+    private static final class BitmapContainer extends Container {
+
+        static final int SIZE_IN_BYTES = 16 + 4 + 16 + BITMAP_WORDS * 8;
+
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer() {
+            this(new long[BITMAP_WORDS], 0);
+        }
+
+        BitmapContainer(final long[] words, final int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        static BitmapContainer deserialize(final ByteBuffer buffer) throws DecoderException {
+            final long[] words = new long[BITMAP_WORDS];
+            buffer.asLongBuffer().get(words);
+            buffer.position(buffer.position() + BITMAP_WORDS * 8);
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            if (cardinality <= ARRAY_MAX) {
+                throw new DecoderException("Invalid bitmap container cardinality: " + cardinality);
+            }
+            return new BitmapContainer(words, cardinality);
+        }
+
+        @Override
+        byte type() {
+            return BITMAP;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(final char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        Container add(final char low) {
+            final long word = words[low >>> 6];
+            final long updated = word | (1L << low);
+            if (updated != word) {
+                words[low >>> 6] = updated;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(final char low) {
+            final long word = words[low >>> 6];
+            final long updated = word & ~(1L << low);
+            if (updated != word) {
+                words[low >>> 6] = updated;
+                cardinality--;
+                if (cardinality <= ARRAY_MAX) {
+                    return toArray();
+                }
+            }
+            return this;
+        }
+
+        @Override
+        Container addRange(final int low, final int lastLow) {
+            setRange(low, lastLow);
+            return this;
+        }
+
+        void setRange(final int low, final int lastLow) {
+            final int first = low >>> 6;
+            final int last = lastLow >>> 6;
+            final long firstMask = -1L << low;
+            final long lastMask = -1L >>> (63 - (lastLow & 63));
+            for (int i = first; i <= last; i++) {
+                long mask = -1L;
+                if (i == first) {
+                    mask &= firstMask;
+                }
+                if (i == last) {
+                    mask &= lastMask;
+                }
+                cardinality += Long.bitCount(mask & ~words[i]);
+                words[i] |= mask;
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        void forEach(final int high, final IntConsumer action) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept((high | (i << 6) | Long.numberOfTrailingZeros(word)) ^ Integer.MIN_VALUE);
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        int fill(final int[] dst, int offset, final int high) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    dst[offset++] = (high | (i << 6) | Long.numberOfTrailingZeros(word)) ^ Integer.MIN_VALUE;
+                    word &= word - 1;
+                }
+            }
+            return offset;
+        }
+
+        @Override
+        LowIterator iterator() {
+            return new LowIterator() {
+                private int index;
+                private long word = words[0];
+
+                @Override
+                public boolean hasNext() {
+                    while (word == 0 && index < BITMAP_WORDS - 1) {
+                        word = words[++index];
+                    }
+                    return word != 0;
+                }
+
+                @Override
+                public int next() {
+                    hasNext();
+                    final int low = (index << 6) | Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    return low;
+                }
+            };
+        }
+
+        @Override
+        int sizeInBytes() {
+            return SIZE_IN_BYTES;
+        }
+
+        @Override
+        int serializedSizeInBytes() {
+            return BITMAP_WORDS * 8;
+        }
+
+        @Override
+        void serialize(final ByteBuffer buffer) {
+            buffer.asLongBuffer().put(words);
+            buffer.position(buffer.position() + BITMAP_WORDS * 8);
+        }
+
+        @Override
+        Container materialize() {
+            return this;
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            return this;
+        }
+
+        ArrayContainer toArray() {
+            final char[] content = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    content[count++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(content, count);
+        }
+
+        @Override
+        int numberOfRuns() {
+            int runs = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                final long word = words[i];
+                // 每个run的起点是前一位为0的1
+                final long previous = (word << 1) | (i > 0 ? words[i - 1] >>> 63 : 0);
+                runs += Long.bitCount(word & ~previous);
+            }
+            return runs;
+        }
+
+        Container and(final BitmapContainer other) {
+            final long[] result = new long[BITMAP_WORDS];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result[i] = words[i] & other.words[i];
+                count += Long.bitCount(result[i]);
+            }
+            return shrink(result, count);
+        }
+
+        Container or(final ArrayContainer other) {
+            final BitmapContainer result = (BitmapContainer) copy();
+            for (int i = 0; i < other.cardinality; i++) {
+                result.add(other.content[i]);
+            }
+            return result;
+        }
+
+        Container or(final BitmapContainer other) {
+            final long[] result = new long[BITMAP_WORDS];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result[i] = words[i] | other.words[i];
+                count += Long.bitCount(result[i]);
+            }
+            return new BitmapContainer(result, count);
+        }
+
+        Container andNot(final ArrayContainer other) {
+            final long[] result = words.clone();
+            int count = cardinality;
+            for (int i = 0; i < other.cardinality; i++) {
+                final char low = other.content[i];
+                if ((result[low >>> 6] & (1L << low)) != 0) {
+                    result[low >>> 6] &= ~(1L << low);
+                    count--;
+                }
+            }
+            return shrink(result, count);
+        }
+
+        Container andNot(final BitmapContainer other) {
+            final long[] result = new long[BITMAP_WORDS];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result[i] = words[i] & ~other.words[i];
+                count += Long.bitCount(result[i]);
+            }
+            return shrink(result, count);
+        }
+
+        int andCardinality(final BitmapContainer other) {
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                count += Long.bitCount(words[i] & other.words[i]);
+            }
+            return count;
+        }
+
+        private static Container shrink(final long[] words, final int cardinality) {
+            final BitmapContainer bitmap = new BitmapContainer(words, cardinality);
+            return cardinality <= ARRAY_MAX ? bitmap.toArray() : bitmap;
+        }
+    }
+
+    /**
+     * 游程容器，每个run保存起点和长度减1
+     */
+    private static final class RunContainer extends Container {
+
+        private final char[] runs;
+        private final int cardinality;
+
+        private RunContainer(final char[] runs) {
+            this.runs = runs;
+            int cardinality = 0;
+            for (int i = 1; i < runs.length; i += 2) {
+                cardinality += runs[i] + 1;
+            }
+            this.cardinality = cardinality;
+        }
+
+        static int sizeInBytes(final int runs) {
+            return 16 + 4 + 16 + runs * 4;
+        }
+
+        static RunContainer ofRange(final int low, final int lastLow) {
+            return new RunContainer(new char[]{(char) low, (char) (lastLow - low)});
+        }
+
+        static RunContainer of(final Container container, final int numberOfRuns) {
+            final char[] runs = new char[numberOfRuns * 2];
+            final int[] k = {-2};
+            final int[] previous = {-2};
+            container.forEach(0, value -> {
+                final int low = (value ^ Integer.MIN_VALUE) & 0xFFFF;
+                if (low == previous[0] + 1) {
+                    runs[k[0] + 1]++;
+                } else {
+                    k[0] += 2;
+                    runs[k[0]] = (char) low;
+                }
+                previous[0] = low;
+            });
+            return new RunContainer(runs);
+        }
+
+        static RunContainer deserialize(final ByteBuffer buffer) throws DecoderException {
+            final int numberOfRuns = buffer.getChar();
+            if (numberOfRuns == 0) {
+                throw new DecoderException("Invalid run container: no runs");
+            }
+            final char[] runs = new char[numberOfRuns * 2];
+            buffer.asCharBuffer().get(runs);
+            buffer.position(buffer.position() + runs.length * 2);
+            int next = 0;
+            for (int i = 0; i < runs.length; i += 2) {
+                if (runs[i] < next || runs[i] + runs[i + 1] > 0xFFFF) {
+                    throw new DecoderException("Invalid run container: overlapping or out of range runs");
+                }
+                next = runs[i] + runs[i + 1] + 2;
+            }
+            return new RunContainer(runs);
+        }
+
+        @Override
+        byte type() {
+            return RUN;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(final char low) {
+            int lo = 0;
+            int hi = runs.length / 2 - 1;
+            while (lo <= hi) {
+                final int mid = (lo + hi) >>> 1;
+                final char start = runs[mid * 2];
+                if (low < start) {
+                    hi = mid - 1;
+                } else if (low > start + runs[mid * 2 + 1]) {
+                    lo = mid + 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        Container add(final char low) {
+            return contains(low) ? this : materialize().add(low);
+        }
+
+        @Override
+        Container remove(final char low) {
+            return contains(low) ? materialize().remove(low) : this;
+        }
+
+        @Override
+        Container addRange(final int low, final int lastLow) {
+            final BitmapContainer bitmap = toBitmap();
+            bitmap.setRange(low, lastLow);
+            return (bitmap.cardinality() <= ARRAY_MAX ? bitmap.toArray() : bitmap).runOptimize();
+        }
+
+        @Override
+        Container copy() {
+            // 不可变，可以共享
+            return this;
+        }
+
+        @Override
+        void forEach(final int high, final IntConsumer action) {
+            for (int i = 0; i < runs.length; i += 2) {
+                for (int low = runs[i], end = runs[i] + runs[i + 1]; low <= end; low++) {
+                    action.accept((high | low) ^ Integer.MIN_VALUE);
+                }
+            }
+        }
+
+        @Override
+        int fill(final int[] dst, int offset, final int high) {
+            for (int i = 0; i < runs.length; i += 2) {
+                for (int low = runs[i], end = runs[i] + runs[i + 1]; low <= end; low++) {
+                    dst[offset++] = (high | low) ^ Integer.MIN_VALUE;
+                }
+            }
+            return offset;
+        }
+
+        @Override
+        LowIterator iterator() {
+            return new LowIterator() {
+                private int run;
+                private int low = runs[0];
+
+                @Override
+                public boolean hasNext() {
+                    return run < runs.length;
+                }
+
+                @Override
+                public int next() {
+                    final int value = low;
+                    if (low == runs[run] + runs[run + 1]) {
+                        run += 2;
+                        if (run < runs.length) {
+                            low = runs[run];
+                        }
+                    } else {
+                        low++;
+                    }
+                    return value;
+                }
+            };
+        }
+
+        @Override
+        int numberOfRuns() {
+            return runs.length / 2;
+        }
+
+        @Override
+        int sizeInBytes() {
+            return sizeInBytes(runs.length / 2);
+        }
+
+        @Override
+        int serializedSizeInBytes() {
+            return 2 + runs.length * 2;
+        }
+
+        @Override
+        void serialize(final ByteBuffer buffer) {
+            buffer.putChar((char) (runs.length / 2));
+            buffer.asCharBuffer().put(runs);
+            buffer.position(buffer.position() + runs.length * 2);
+        }
+
+        @Override
+        Container materialize() {
+            final BitmapContainer bitmap = toBitmap();
+            return cardinality <= ARRAY_MAX ? bitmap.toArray() : bitmap;
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            final BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < runs.length; i += 2) {
+                bitmap.setRange(runs[i], runs[i] + runs[i + 1]);
+            }
+            return bitmap;
+        }
+
+        @Override
+        Container runOptimize() {
+            return this;
+        }
+    }
+
+}
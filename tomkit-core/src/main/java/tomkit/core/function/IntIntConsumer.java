@@ -0,0 +1,19 @@
+package tomkit.core.function;
+
+/**
+ * 接收两个int参数的消费者
+ *
+ * @author yh
+ * @since 2026/10/18
+ */
+@FunctionalInterface
+public interface IntIntConsumer {
+    /**
+     * 处理一对int值，避免使用进行自动装箱
+     *
+     * @param first  第一个值
+     * @param second 第二个值
+     */
+    void accept(int first, int second);
+
+}
@@ -0,0 +1,20 @@
+package tomkit.core.function;
+
+/**
+ * 接收long和对象参数的消费者
+ *
+ * @param <T> 对象类型
+ * @author yh
+ * @since 2026/10/18
+ */
+@FunctionalInterface
+public interface LongObjectConsumer<T> {
+    /**
+     * 处理一对long值与对象，避免使用进行自动装箱
+     *
+     * @param value long值
+     * @param t     对象
+     */
+    void accept(long value, T t);
+
+}
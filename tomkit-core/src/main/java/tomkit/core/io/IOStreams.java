@@ -2,6 +2,7 @@ package tomkit.core.io;
 
 import tomkit.core.lang.Arrays;
 import tomkit.core.lang.Collections;
+import tomkit.core.lang.StringPool;
 
 import java.io.*;
 import java.net.HttpURLConnection;
@@ -848,13 +849,40 @@ public final class IOStreams {
      * @return 内容的字符串列表
      * @throws IOException 如果出现I/O错误
      */
-    @SuppressWarnings("resource")
     public static List<String> readLines(final Reader reader) throws IOException {
+        return readLines(reader, null);
+    }
+
+    /**
+     * 获取{@link InputStream}的内容作为字符串列表，每行为列表一项，使用指定字符编码，相同内容的行通过pool去重
+     *
+     * @param input   要读取的{@link InputStream}
+     * @param charset 字符编码
+     * @param pool    字符串去重池，为{@code null}时不去重
+     * @return 内容的字符串列表
+     * @throws IOException 如果出现I/O错误
+     */
+    public static List<String> readLines(final InputStream input, final Charset charset, final StringPool pool)
+            throws IOException {
+        final InputStreamReader reader = new InputStreamReader(input, charset);
+        return readLines(reader, pool);
+    }
+
+    /**
+     * 获取{@link Reader}的内容作为字符串列表，每行为列表一项，相同内容的行通过pool去重
+     *
+     * @param reader 要读取的{@link Reader}
+     * @param pool   字符串去重池，为{@code null}时不去重
+     * @return 内容的字符串列表
+     * @throws IOException 如果出现I/O错误
+     */
+    @SuppressWarnings("resource")
+    public static List<String> readLines(final Reader reader, final StringPool pool) throws IOException {
         final BufferedReader br = buffer(reader);
         final List<String> list = new ArrayList<>();
         String line;
         while ((line = br.readLine()) != null) {
-            list.add(line);
+            list.add(pool == null ? line : pool.intern(line));
         }
         return list;
     }
@@ -948,6 +976,24 @@ public final class IOStreams {
         return new LineIterator(new InputStreamReader(input, charset));
     }
 
+    /**
+     * 返回{@link InputStream}输入流中的行迭代器{@link LineIterator}，使用指定的字符编码，相同内容的行通过pool去重
+     *
+     * @param input   输入流{@link InputStream}
+     * @param charset 字符编码
+     * @param pool    字符串去重池，为{@code null}时不去重
+     * @return 读取器中行的迭代器
+     * @throws IllegalArgumentException 如果input或charset为null
+     * @throws IOException              如果出现I/O错误
+     */
+    public static LineIterator lineIterator(final InputStream input, final Charset charset, final StringPool pool)
+            throws IOException {
+        Objects.requireNonNull(input, "input");
+        Objects.requireNonNull(charset, "charset");
+
+        return new LineIterator(new InputStreamReader(input, charset), pool);
+    }
+
     /* ------------------------------------------------------ skip ------------------------------------------------------ */
 
     /**
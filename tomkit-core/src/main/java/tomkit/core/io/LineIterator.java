@@ -1,5 +1,7 @@
 package tomkit.core.io;
 
+import tomkit.core.lang.StringPool;
+
 import java.io.BufferedReader;
 import java.io.Closeable;
 import java.io.IOException;
@@ -27,6 +29,10 @@ public class LineIterator implements Iterator<String>, Closeable {
      * 被读的阅读器
      */
     private final BufferedReader bufferedReader;
+    /**
+     * 行字符串去重池，为{@code null}时不去重
+     */
+    private final StringPool pool;
     /**
      * 当前行
      */
@@ -43,6 +49,18 @@ public class LineIterator implements Iterator<String>, Closeable {
      * @throws IllegalArgumentException 如果reader为null
      */
     public LineIterator(final Reader reader) throws IllegalArgumentException {
+        this(reader, null);
+    }
+
+    /**
+     * 构造一个阅读器的行迭代器，读取的每一行通过pool去重
+     *
+     * @param reader 要读的阅读器
+     * @param pool   字符串去重池，为{@code null}时不去重
+     * @throws IllegalArgumentException 如果reader为null
+     */
+    public LineIterator(final Reader reader, final StringPool pool) throws IllegalArgumentException {
+        this.pool = pool;
         if (reader == null) {
             throw new IllegalArgumentException("Reader must not be null");
         }
@@ -75,7 +93,7 @@ public class LineIterator implements Iterator<String>, Closeable {
                         finished = true;
                         return false;
                     } else if (isValidLine(line)) {
-                        cachedLine = line;
+                        cachedLine = pool == null ? line : pool.intern(line);
                         return true;
                     }
                 }
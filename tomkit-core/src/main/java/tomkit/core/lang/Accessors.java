@@ -0,0 +1,442 @@
+package tomkit.core.lang;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 属性访问器缓存
+ * <p>
+ * 每个类的getter、setter和字段只解析一次，结果通过{@link ClassValue}与类关联，类被卸载时缓存随之释放，
+ * 不会因为缓存导致类加载器泄漏。公开类的公开方法通过{@link LambdaMetafactory}生成{@link Function}/{@link BiConsumer}，
+ * 调用开销与直接调用接近；其它方法和字段使用{@link MethodHandle}。
+ * 适合对象映射这类对同一批类反复读写属性的场景，避免每次调用都通过{@link Class#getMethods()}查找和{@link Method#invoke}调用。
+ * 有getter或setter的属性只通过方法读写，例如只有getter的属性是只读的；没有getter和setter的字段直接读写
+ *
+ * <pre class="code">
+ *     Accessors accessors = Accessors.forClass(User.class);
+ *     accessors.get(user, "name")
+ *     accessors.set(user, "age", 18);
+ *     Accessors.Property name = accessors.getProperty("name");
+ *     name.get(user)
+ * </pre>
+ *
+ * @author yh
+ * @since 2026/10/18
+ */
+public final class Accessors {
+
+    private static final ClassValue<Accessors> CACHE = new ClassValue<Accessors>() {
+        @Override
+        protected Accessors computeValue(final Class<?> type) {
+            return new Accessors(type);
+        }
+    };
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> type;
+
+    private final Map<String, Property> properties;
+
+    private Accessors(final Class<?> type) {
+        this.type = type;
+        this.properties = Collections.unmodifiableMap(resolve(type));
+    }
+
+    /**
+     * 获取类的属性访问器，首次调用时解析，之后直接返回缓存
+     *
+     * @param type 类
+     * @return 属性访问器
+     */
+    public static Accessors forClass(final Class<?> type) {
+        Assert.notNull(type, "type cannot be null");
+        return CACHE.get(type);
+    }
+
+    /**
+     * @return 类
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return 全部属性，按名称索引
+     */
+    public Map<String, Property> getProperties() {
+        return properties;
+    }
+
+    /**
+     * @return 全部属性名
+     */
+    public Set<String> getPropertyNames() {
+        return properties.keySet();
+    }
+
+    /**
+     * @param name 属性名
+     * @return 属性，不存在时返回{@code null}
+     */
+    public Property getProperty(final String name) {
+        return properties.get(name);
+    }
+
+    /**
+     * @param name 属性名
+     * @return 是否存在属性
+     */
+    public boolean hasProperty(final String name) {
+        return properties.containsKey(name);
+    }
+
+    /**
+     * 读取属性值
+     *
+     * @param target 对象
+     * @param name   属性名
+     * @return 属性值
+     * @throws IllegalArgumentException 属性不存在或不可读时抛出
+     */
+    public Object get(final Object target, final String name) {
+        return requireProperty(name).get(target);
+    }
+
+    /**
+     * 写入属性值
+     *
+     * @param target 对象
+     * @param name   属性名
+     * @param value  属性值
+     * @throws IllegalArgumentException 属性不存在或不可写时抛出
+     */
+    public void set(final Object target, final String name, final Object value) {
+        requireProperty(name).set(target, value);
+    }
+
+    private Property requireProperty(final String name) {
+        final Property property = properties.get(name);
+        if (property == null) {
+            throw new IllegalArgumentException("No property '" + name + "' in " + type.getName());
+        }
+        return property;
+    }
+
+    @Override
+    public String toString() {
+        return "Accessors{" + type.getName() + ", properties=" + properties.values() + '}';
+    }
+
+    /**
+     * 解析getter、setter和字段。有getter或setter的属性只通过方法读写，与{@link java.beans.Introspector}一致，
+     * 同名字段只在方法无法访问时代替该方法；没有getter和setter的字段直接作为属性，final字段只读
+     */
+    private static Map<String, Property> resolve(final Class<?> type) {
+        final Map<String, Method> getters = new LinkedHashMap<>();
+        final Map<String, Collection<Method>> setters = new LinkedHashMap<>();
+        for (Method method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.isSynthetic()) {
+                continue;
+            }
+            final String name = method.getName();
+            final int parameters = method.getParameterCount();
+            if (parameters == 0 && name.startsWith("get") && name.length() > 3
+                    && method.getReturnType() != void.class && !"getClass".equals(name)) {
+                getters.put(propertyName(name, 3), method);
+            } else if (parameters == 0 && name.startsWith("is") && name.length() > 2
+                    && method.getReturnType() == boolean.class) {
+                getters.putIfAbsent(propertyName(name, 2), method);
+            } else if (parameters == 1 && name.startsWith("set") && name.length() > 3) {
+                setters.computeIfAbsent(propertyName(name, 3), key -> new ArrayList<>()).add(method);
+            }
+        }
+
+        final Map<String, Field> fields = new LinkedHashMap<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    // 子类字段遮蔽父类同名字段
+                    fields.putIfAbsent(field.getName(), field);
+                }
+            }
+        }
+
+        final Map<String, Property> properties = new LinkedHashMap<>();
+        for (Map.Entry<String, Method> entry : getters.entrySet()) {
+            final String name = entry.getKey();
+            final Method getter = entry.getValue();
+            final Method setter = chooseSetter(setters.remove(name), getter.getReturnType());
+            final Field field = fields.remove(name);
+            // 只有getter的属性保持只读，不通过同名字段写入
+            properties.put(name, new Property(name, getter.getReturnType(), getter(getter, field),
+                    setter != null ? setter(setter, field) : null));
+        }
+        for (Map.Entry<String, Collection<Method>> entry : setters.entrySet()) {
+            final String name = entry.getKey();
+            final Field field = fields.remove(name);
+            final Method setter = chooseSetter(entry.getValue(), field != null ? field.getType() : null);
+            if (setter != null) {
+                // 只有setter的属性保持只写
+                properties.put(name, new Property(name, setter.getParameterTypes()[0], null, setter(setter, field)));
+            }
+        }
+        for (Field field : fields.values()) {
+            final Function<Object, Object> getter = fieldGetter(field, field.getType());
+            if (getter != null) {
+                properties.put(field.getName(), new Property(field.getName(), field.getType(), getter,
+                        fieldSetter(field, field.getType())));
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * 多个同名setter时，优先选择参数类型与属性类型相同的，否则只有唯一一个时才使用
+     */
+    private static Method chooseSetter(final Collection<Method> candidates, final Class<?> propertyType) {
+        if (candidates == null) {
+            return null;
+        }
+        for (Method candidate : candidates) {
+            if (candidate.getParameterTypes()[0] == propertyType) {
+                return candidate;
+            }
+        }
+        return propertyType == null && candidates.size() == 1 ? candidates.iterator().next() : null;
+    }
+
+    private static String propertyName(final String methodName, final int prefixLength) {
+        final String name = methodName.substring(prefixLength);
+        // 与java.beans.Introspector.decapitalize一致：前两个字母都大写时保持不变，如URL
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static Function<Object, Object> getter(final Method method, final Field field) {
+        if (canSpin(method)) {
+            try {
+                final MethodHandle handle = LOOKUP.unreflect(method);
+                final CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply",
+                        MethodType.methodType(Function.class), GETTER_TYPE.erase(), handle, handle.type().wrap());
+                @SuppressWarnings("unchecked")
+                final Function<Object, Object> function = (Function<Object, Object>) site.getTarget().invokeExact();
+                return function;
+            } catch (Throwable ex) {
+                // 回退到MethodHandle
+            }
+        }
+        final MethodHandle handle = unreflect(method);
+        return handle != null ? getter(handle) : fieldGetter(field, method.getReturnType());
+    }
+
+    private static BiConsumer<Object, Object> setter(final Method method, final Field field) {
+        if (canSpin(method)) {
+            try {
+                final MethodHandle handle = LOOKUP.unreflect(method);
+                final CallSite site = LambdaMetafactory.metafactory(LOOKUP, "accept",
+                        MethodType.methodType(BiConsumer.class), SETTER_TYPE, handle,
+                        handle.type().wrap().changeReturnType(void.class));
+                @SuppressWarnings("unchecked")
+                final BiConsumer<Object, Object> consumer = (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+                return consumer;
+            } catch (Throwable ex) {
+                // 回退到MethodHandle
+            }
+        }
+        final MethodHandle handle = unreflect(method);
+        return handle != null ? setter(handle) : fieldSetter(field, method.getParameterTypes()[0]);
+    }
+
+    private static Function<Object, Object> fieldGetter(final Field field, final Class<?> expectedType) {
+        if (field == null || field.getType() != expectedType || !makeAccessible(field)) {
+            return null;
+        }
+        try {
+            return getter(LOOKUP.unreflectGetter(field));
+        } catch (IllegalAccessException ex) {
+            return null;
+        }
+    }
+
+    private static BiConsumer<Object, Object> fieldSetter(final Field field, final Class<?> expectedType) {
+        if (field == null || field.getType() != expectedType || Modifier.isFinal(field.getModifiers())
+                || !makeAccessible(field)) {
+            return null;
+        }
+        try {
+            return setter(LOOKUP.unreflectSetter(field));
+        } catch (IllegalAccessException ex) {
+            return null;
+        }
+    }
+
+    private static Function<Object, Object> getter(final MethodHandle handle) {
+        final MethodHandle generic = handle.asType(GETTER_TYPE);
+        return target -> {
+            try {
+                return generic.invokeExact(target);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException(ex);
+            }
+        };
+    }
+
+    private static BiConsumer<Object, Object> setter(final MethodHandle handle) {
+        final MethodHandle generic = handle.asType(SETTER_TYPE);
+        return (target, value) -> {
+            try {
+                generic.invokeExact(target, value);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException(ex);
+            }
+        };
+    }
+
+    /**
+     * 生成的lambda类定义在本类的类加载器中，要求方法所在类公开且可见，否则回退到MethodHandle
+     */
+    private static boolean canSpin(final Method method) {
+        final ClassLoader loader = Accessors.class.getClassLoader();
+        final Class<?> declaringClass = method.getDeclaringClass();
+        if (!Modifier.isPublic(declaringClass.getModifiers()) || !Classes.isVisible(declaringClass, loader)) {
+            return false;
+        }
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (!parameterType.isPrimitive() && !Classes.isVisible(parameterType, loader)) {
+                return false;
+            }
+        }
+        final Class<?> returnType = method.getReturnType();
+        return returnType.isPrimitive() || Classes.isVisible(returnType, loader);
+    }
+
+    private static MethodHandle unreflect(final Method method) {
+        try {
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException ex) {
+            // 公开方法声明在非公开类中时需要放开访问检查
+            try {
+                method.setAccessible(true);
+                return LOOKUP.unreflect(method);
+            } catch (RuntimeException | IllegalAccessException e) {
+                return null;
+            }
+        }
+    }
+
+    private static boolean makeAccessible(final Field field) {
+        try {
+            field.setAccessible(true);
+            return true;
+        } catch (RuntimeException ex) {
+            // SecurityException，或Java 9+模块未开放
+            return false;
+        }
+    }
+
+    /**
+     * 属性
+     */
+    public static final class Property {
+
+        private final String name;
+        private final Class<?> type;
+        private final Function<Object, Object> getter;
+        private final BiConsumer<Object, Object> setter;
+
+        private Property(final String name, final Class<?> type, final Function<Object, Object> getter,
+                         final BiConsumer<Object, Object> setter) {
+            this.name = name;
+            this.type = type;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        /**
+         * @return 属性名
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return 属性类型
+         */
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * @return 是否可读
+         */
+        public boolean isReadable() {
+            return getter != null;
+        }
+
+        /**
+         * @return 是否可写
+         */
+        public boolean isWritable() {
+            return setter != null;
+        }
+
+        /**
+         * 读取属性值
+         *
+         * @param target 对象
+         * @return 属性值，基本类型会装箱
+         * @throws IllegalArgumentException 属性不可读时抛出
+         */
+        public Object get(final Object target) {
+            if (getter == null) {
+                throw new IllegalArgumentException("Property '" + name + "' is not readable");
+            }
+            return getter.apply(target);
+        }
+
+        /**
+         * 写入属性值
+         *
+         * @param target 对象
+         * @param value  属性值，基本类型属性需传入对应的包装类型且不能为{@code null}
+         * @throws IllegalArgumentException 属性不可写时抛出
+         */
+        public void set(final Object target, final Object value) {
+            if (setter == null) {
+                throw new IllegalArgumentException("Property '" + name + "' is not writable");
+            }
+            setter.accept(target, value);
+        }
+
+        @Override
+        public String toString() {
+            return name + ':' + type.getSimpleName() + (getter != null ? "[r" : "[") + (setter != null ? "w]" : "]");
+        }
+    }
+
+}
@@ -288,6 +288,54 @@ public final class Ascii {
      */
     private static final char CASE_MASK = 0x20;
 
+    /**
+     * A mask which selects every bit of a character outside the ASCII range.
+     */
+    private static final int NON_ASCII_MASK = 0xFF80;
+
+    /**
+     * Precomputed {@link Character#isWhitespace(char)} results for every ASCII character.
+     */
+    private static final boolean[] WHITESPACE = new boolean[MAX + 1];
+
+    static {
+        for (char c = MIN; c <= MAX; c++) {
+            WHITESPACE[c] = Character.isWhitespace(c);
+        }
+    }
+
+    /**
+     * Indicates whether {@code c} is an ASCII character for which {@link Character#isWhitespace(char)}
+     * returns {@code true}, using a lookup table. All non-ASCII characters return {@code false}.
+     */
+    public static boolean isWhitespace(char c) {
+        return c <= MAX && WHITESPACE[c];
+    }
+
+    /**
+     * Indicates whether every character of {@code chars} is an ASCII character. The scan folds eight
+     * characters into one comparison per step.
+     */
+    public static boolean isAscii(CharSequence chars) {
+        int length = chars.length();
+        int i = 0;
+        if (chars instanceof String) {
+            String string = (String) chars;
+            for (int limit = length - 7; i < limit; i += 8) {
+                int bits = string.charAt(i) | string.charAt(i + 1) | string.charAt(i + 2) | string.charAt(i + 3)
+                        | string.charAt(i + 4) | string.charAt(i + 5) | string.charAt(i + 6) | string.charAt(i + 7);
+                if ((bits & NON_ASCII_MASK) != 0) {
+                    return false;
+                }
+            }
+        }
+        int bits = 0;
+        for (; i < length; i++) {
+            bits |= chars.charAt(i);
+        }
+        return (bits & NON_ASCII_MASK) == 0;
+    }
+
     /**
      * Returns a copy of the input string in which all {@linkplain #isUpperCase(char) uppercase ASCII
      * characters} have been converted to lowercase. All other characters are copied without
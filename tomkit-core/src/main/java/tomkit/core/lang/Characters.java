@@ -437,4 +437,16 @@ public final class Characters {
         return (ch >= 'A' && ch <= 'Z') || (ch >= 'a' && ch <= 'z') || (ch >= '0' && ch <= '9');
     }
 
+    /**
+     * 判断字符是否为空白字符，结果同{@link Character#isWhitespace(char)}
+     * <p>
+     * ASCII字符查表判断，其它字符交给{@link Character#isWhitespace(char)}
+     *
+     * @param ch 字符
+     * @return 是否为空白字符
+     */
+    public static boolean isWhitespace(char ch) {
+        return ch <= Ascii.MAX ? Ascii.isWhitespace(ch) : Character.isWhitespace(ch);
+    }
+
 }
@@ -1,8 +1,20 @@
 package tomkit.core.lang;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.util.AbstractList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -13,6 +25,11 @@ import java.util.Map.Entry;
  */
 public final class Joiner {
 
+    /**
+     * The number of characters encoded per step by the {@code writeTo} methods.
+     */
+    private static final int ENCODE_BUFFER_SIZE = 8192;
+
     /**
      * Returns a joiner which automatically places {@code separator} between consecutive elements.
      */
@@ -29,12 +46,23 @@ public final class Joiner {
 
     private final String separator;
 
+    /**
+     * The text used for {@code null} parts, or {@code null} if {@code null} parts are rejected.
+     */
+    private final String nullText;
+
+    private final boolean skipNulls;
+
     private Joiner(String separator) {
         this.separator = Objects.checkNotNull(separator);
+        this.nullText = null;
+        this.skipNulls = false;
     }
 
-    private Joiner(Joiner prototype) {
+    private Joiner(Joiner prototype, String nullText, boolean skipNulls) {
         this.separator = prototype.separator;
+        this.nullText = nullText;
+        this.skipNulls = skipNulls;
     }
 
     /**
@@ -51,6 +79,20 @@ public final class Joiner {
      */
     public <A extends Appendable> A appendTo(A appendable, Iterator<?> parts) throws IOException {
         Assert.notNull(appendable);
+        if (skipNulls) {
+            boolean first = true;
+            while (parts.hasNext()) {
+                Object part = parts.next();
+                if (part != null) {
+                    if (!first) {
+                        appendable.append(separator);
+                    }
+                    appendable.append(toString(part));
+                    first = false;
+                }
+            }
+            return appendable;
+        }
         if (parts.hasNext()) {
             appendable.append(toString(parts.next()));
             while (parts.hasNext()) {
@@ -120,11 +162,103 @@ public final class Joiner {
         return appendTo(builder, iterable(first, second, rest));
     }
 
+    /**
+     * Writes the string representation of each of {@code parts}, using the previously configured
+     * separator between each, to {@code out} encoded with {@code charset}. The text is encoded
+     * incrementally through one encoder and fixed-size buffers, so the joined string is never
+     * built. Malformed or unmappable characters are replaced, as by {@link String#getBytes(Charset)}.
+     * The stream is neither flushed nor closed.
+     */
+    public final <O extends OutputStream> O writeTo(O out, Charset charset, Iterable<?> parts) throws IOException {
+        return writeTo(out, charset, parts.iterator());
+    }
+
+    /**
+     * Writes the string representation of each of {@code parts}, using the previously configured
+     * separator between each, to {@code out} encoded with {@code charset}. Identical to {@link
+     * #writeTo(OutputStream, Charset, Iterable)}.
+     */
+    public final <O extends OutputStream> O writeTo(O out, Charset charset, Iterator<?> parts) throws IOException {
+        Assert.notNull(out);
+        EncodingSink sink = new EncodingSink(charset) {
+            @Override
+            void write(ByteBuffer bytes) throws IOException {
+                out.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+                bytes.position(bytes.limit());
+            }
+        };
+        writeTo(sink, parts);
+        return out;
+    }
+
+    /**
+     * Writes the string representation of each of {@code parts}, using the previously configured
+     * separator between each, to {@code channel} encoded with {@code charset}. Identical to {@link
+     * #writeTo(OutputStream, Charset, Iterable)}, except that the target is a channel. The channel
+     * is not closed.
+     *
+     * <p>The channel must be in blocking mode, since each chunk is written completely before the
+     * next one is encoded.
+     *
+     * @throws IllegalBlockingModeException if {@code channel} is a {@link SelectableChannel} in
+     *                                      non-blocking mode
+     */
+    public final <C extends WritableByteChannel> C writeTo(C channel, Charset charset, Iterable<?> parts)
+            throws IOException {
+        return writeTo(channel, charset, parts.iterator());
+    }
+
+    /**
+     * Writes the string representation of each of {@code parts}, using the previously configured
+     * separator between each, to {@code channel} encoded with {@code charset}. Identical to {@link
+     * #writeTo(WritableByteChannel, Charset, Iterable)}.
+     *
+     * @throws IllegalBlockingModeException if {@code channel} is a {@link SelectableChannel} in
+     *                                      non-blocking mode
+     */
+    public final <C extends WritableByteChannel> C writeTo(C channel, Charset charset, Iterator<?> parts)
+            throws IOException {
+        Assert.notNull(channel);
+        // a non-blocking channel may accept 0 bytes, the write loop below would spin forever
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+            throw new IllegalBlockingModeException();
+        }
+        EncodingSink sink = new EncodingSink(charset) {
+            @Override
+            void write(ByteBuffer bytes) throws IOException {
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+            }
+        };
+        writeTo(sink, parts);
+        return channel;
+    }
+
+    private void writeTo(EncodingSink sink, Iterator<?> parts) throws IOException {
+        boolean first = true;
+        while (parts.hasNext()) {
+            Object part = parts.next();
+            if (part == null && skipNulls) {
+                continue;
+            }
+            if (!first) {
+                sink.append(separator);
+            }
+            sink.append(toString(part));
+            first = false;
+        }
+        sink.finish();
+    }
+
     /**
      * Returns a string containing the string representation of each of {@code parts}, using the
      * previously configured separator between each.
      */
     public final String join(Iterable<?> parts) {
+        if (parts instanceof Collection) {
+            return join(((Collection<?>) parts).toArray());
+        }
         return join(parts.iterator());
     }
 
@@ -141,7 +275,19 @@ public final class Joiner {
      * previously configured separator between each.
      */
     public final String join(Object[] parts) {
-        return join(Arrays.asList(parts));
+        // Convert every part once and sum the lengths, so the result is built in an exact-size buffer
+        CharSequence[] texts = new CharSequence[parts.length];
+        int count = 0;
+        long length = 0;
+        for (Object part : parts) {
+            if (part == null && skipNulls) {
+                continue;
+            }
+            CharSequence text = toString(part);
+            texts[count++] = text;
+            length += text.length();
+        }
+        return concat(texts, count, length, separator);
     }
 
     /**
@@ -152,6 +298,38 @@ public final class Joiner {
         return join(iterable(first, second, rest));
     }
 
+    /**
+     * Returns a joiner with the same behavior as this one, except automatically substituting {@code
+     * nullText} for any provided null elements.
+     *
+     * @throws UnsupportedOperationException if a null handling mode is already configured
+     */
+    public Joiner useForNull(String nullText) {
+        Objects.checkNotNull(nullText);
+        checkNullMode();
+        return new Joiner(this, nullText, false);
+    }
+
+    /**
+     * Returns a joiner with the same behavior as this joiner, except automatically skipping over any
+     * provided null elements.
+     *
+     * @throws UnsupportedOperationException if a null handling mode is already configured
+     */
+    public Joiner skipNulls() {
+        checkNullMode();
+        return new Joiner(this, null, true);
+    }
+
+    private void checkNullMode() {
+        if (nullText != null) {
+            throw new UnsupportedOperationException("already specified useForNull");
+        }
+        if (skipNulls) {
+            throw new UnsupportedOperationException("already specified skipNulls");
+        }
+    }
+
     /**
      * Returns a {@code MapJoiner} using the given key-value separator, and the same configuration as
      * this {@code Joiner} otherwise.
@@ -165,6 +343,9 @@ public final class Joiner {
      * this {@code Joiner} otherwise.
      */
     public MapJoiner withKeyValueSeparator(String keyValueSeparator) {
+        if (skipNulls) {
+            throw new UnsupportedOperationException("can't use .skipNulls() with maps");
+        }
         return new MapJoiner(this, keyValueSeparator);
     }
 
@@ -273,11 +454,41 @@ public final class Joiner {
             return join(map.entrySet());
         }
 
+        /**
+         * Joins a snapshot of the entries, converting each key and value once and sizing the result exactly.
+         */
+        private String join(Object[] entries) {
+            if (entries.length == 0) {
+                return "";
+            }
+            CharSequence[] keys = new CharSequence[entries.length];
+            CharSequence[] values = new CharSequence[entries.length];
+            long length = (long) joiner.separator.length() * (entries.length - 1)
+                    + (long) keyValueSeparator.length() * entries.length;
+            for (int i = 0; i < entries.length; i++) {
+                Entry<?, ?> entry = (Entry<?, ?>) entries[i];
+                keys[i] = joiner.toString(entry.getKey());
+                values[i] = joiner.toString(entry.getValue());
+                length += keys[i].length() + values[i].length();
+            }
+            StringBuilder builder = new StringBuilder(checkLength(length));
+            for (int i = 0; i < entries.length; i++) {
+                if (i > 0) {
+                    builder.append(joiner.separator);
+                }
+                builder.append(keys[i]).append(keyValueSeparator).append(values[i]);
+            }
+            return builder.toString();
+        }
+
         /**
          * Returns a string containing the string representation of each entry in {@code entries}, using
          * the previously configured separator and key-value separator.
          */
         public String join(Iterable<? extends Entry<?, ?>> entries) {
+            if (entries instanceof Collection) {
+                return join(((Collection<?>) entries).toArray());
+            }
             return join(entries.iterator());
         }
 
@@ -292,10 +503,116 @@ public final class Joiner {
     }
 
     CharSequence toString(Object part) {
+        if (part == null && nullText != null) {
+            return nullText;
+        }
         Assert.notNull(part); // checkNotNull for GWT (do not optimize).
         return (part instanceof CharSequence) ? (CharSequence) part : part.toString();
     }
 
+    /**
+     * Concatenates the first {@code count} texts, whose lengths sum up to {@code length}, with
+     * {@code separator} between each.
+     */
+    private static String concat(CharSequence[] texts, int count, long length, String separator) {
+        if (count == 0) {
+            return "";
+        }
+        length += (long) separator.length() * (count - 1);
+        StringBuilder builder = new StringBuilder(checkLength(length));
+        builder.append(texts[0]);
+        for (int i = 1; i < count; i++) {
+            builder.append(separator).append(texts[i]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Encodes text into a byte sink through a fixed-size character buffer and byte buffer.
+     */
+    private abstract static class EncodingSink {
+        private final CharsetEncoder encoder;
+        private final CharBuffer chars = CharBuffer.allocate(ENCODE_BUFFER_SIZE);
+        private final ByteBuffer bytes;
+
+        EncodingSink(Charset charset) {
+            this.encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.bytes = ByteBuffer.allocate((int) Math.ceil(ENCODE_BUFFER_SIZE * encoder.maxBytesPerChar()));
+        }
+
+        /**
+         * Writes all remaining bytes of {@code bytes}.
+         */
+        abstract void write(ByteBuffer bytes) throws IOException;
+
+        void append(CharSequence text) throws IOException {
+            int length = text.length();
+            int pos = 0;
+            while (pos < length) {
+                int n = Math.min(chars.remaining(), length - pos);
+                if (text instanceof String) {
+                    ((String) text).getChars(pos, pos + n, chars.array(), chars.arrayOffset() + chars.position());
+                    chars.position(chars.position() + n);
+                } else {
+                    for (int i = pos; i < pos + n; i++) {
+                        chars.put(text.charAt(i));
+                    }
+                }
+                pos += n;
+                if (!chars.hasRemaining()) {
+                    encode(false);
+                }
+            }
+        }
+
+        void finish() throws IOException {
+            encode(true);
+            while (encoder.flush(bytes).isOverflow()) {
+                drain();
+            }
+            drain();
+        }
+
+        private void encode(boolean endOfInput) throws IOException {
+            chars.flip();
+            while (true) {
+                CoderResult result = encoder.encode(chars, bytes, endOfInput);
+                if (result.isOverflow()) {
+                    drain();
+                } else if (result.isError()) {
+                    throwException(result);
+                } else {
+                    break;
+                }
+            }
+            // an incomplete surrogate pair stays in the buffer until the next part arrives
+            chars.compact();
+        }
+
+        private void drain() throws IOException {
+            bytes.flip();
+            write(bytes);
+            bytes.clear();
+        }
+
+        private static void throwException(CoderResult result) throws CharacterCodingException {
+            result.throwException();
+        }
+    }
+
+    /**
+     * Returns {@code length} as an {@code int}, throwing {@link OutOfMemoryError} if the joined
+     * result could not be held in a single array.
+     */
+    static int checkLength(long length) {
+        if (length > Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Required length exceeds implementation limit");
+        }
+        return (int) length;
+    }
+
     private static Iterable<Object> iterable(
             final Object first, final Object second, final Object[] rest) {
         Assert.notNull(rest);
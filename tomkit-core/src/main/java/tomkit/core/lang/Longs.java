@@ -1,7 +1,16 @@
 package tomkit.core.lang;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.OptionalLong;
+import java.util.stream.IntStream;
 
 /**
  * @author yh
@@ -110,6 +119,9 @@ public final class Longs {
         if (target.length == 0) {
             return 0;
         }
+        if (target.length >= KMP_THRESHOLD) {
+            return kmpIndexOf(array, target);
+        }
 
         outer:
         for (int i = 0; i < array.length - target.length + 1; i++) {
@@ -145,6 +157,267 @@ public final class Longs {
         return -1;
     }
 
+    /**
+     * Target lengths at or above this use Knuth-Morris-Pratt in {@link #indexOf(long[], long[])}; shorter
+     * targets are cheaper to match directly.
+     */
+    private static final int KMP_THRESHOLD = 8;
+
+    /**
+     * When one sorted input is at least this many times longer than the other, the set operations
+     * gallop through the longer one instead of merging element by element.
+     */
+    private static final int GALLOP_RATIO = 32;
+
+    /**
+     * Knuth-Morris-Pratt search, linear in {@code array.length + target.length}.
+     */
+    private static int kmpIndexOf(long[] array, long[] target) {
+        // failure[j] is the length of the longest proper border of target[0..j]
+        int[] failure = new int[target.length];
+        for (int j = 1, k = 0; j < target.length; j++) {
+            while (k > 0 && target[j] != target[k]) {
+                k = failure[k - 1];
+            }
+            if (target[j] == target[k]) {
+                k++;
+            }
+            failure[j] = k;
+        }
+        for (int i = 0, k = 0; i < array.length; i++) {
+            while (k > 0 && array[i] != target[k]) {
+                k = failure[k - 1];
+            }
+            if (array[i] == target[k]) {
+                k++;
+            }
+            if (k == target.length) {
+                return i - k + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Searches the range {@code [fromIndex, toIndex)} of {@code array}, which must be sorted in
+     * ascending order, for {@code key}. Positions {@code fromIndex + 1, 2, 4, 8, ...} are probed until
+     * the key is bracketed, which is then binary searched, so the cost is {@code O(log d)} where
+     * {@code d} is the distance from {@code fromIndex} to the key. This beats {@link
+     * Arrays#binarySearch(long[], int, int, long)} when the key is likely to be near {@code fromIndex},
+     * for example when walking a sorted array with increasing keys.
+     *
+     * @param array     a sorted array
+     * @param fromIndex the first index to search, inclusive
+     * @param toIndex   the last index to search, exclusive
+     * @param key       the value to search for
+     * @return the index of the first occurrence of {@code key} in the range, if present; otherwise
+     * {@code (-(insertion point) - 1)}, as in {@link Arrays#binarySearch(long[], int, int, long)}
+     * @throws IndexOutOfBoundsException if {@code fromIndex < 0}, {@code toIndex > array.length}, or
+     *                                   {@code fromIndex > toIndex}
+     */
+    public static int exponentialSearch(long[] array, int fromIndex, int toIndex, long key) {
+        java.util.Objects.requireNonNull(array);
+        checkRange(fromIndex, toIndex, array.length);
+        int index = lowerBound(array, fromIndex, toIndex, key);
+        return index < toIndex && array[index] == key ? index : -(index + 1);
+    }
+
+    /**
+     * Returns the first index in {@code [fromIndex, toIndex)} whose value is not less than {@code
+     * key}, or {@code toIndex} if there is none, galloping from {@code fromIndex}.
+     */
+    private static int lowerBound(long[] array, int fromIndex, int toIndex, long key) {
+        int low = fromIndex;
+        int high = fromIndex;
+        int bound = 1;
+        while (high < toIndex && array[high] < key) {
+            low = high + 1;
+            high = bound >= toIndex - fromIndex ? toIndex : fromIndex + bound;
+            // saturate instead of overflowing, no range is longer than Integer.MAX_VALUE
+            bound = bound > Integer.MAX_VALUE >>> 1 ? Integer.MAX_VALUE : bound << 1;
+        }
+        // array[low - 1] < key <= array[high], where array[toIndex] counts as +infinity
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (array[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Writes the values present in both {@code a} and {@code b}, which must be sorted in ascending
+     * order, to {@code dst} in ascending order. A value repeated in both inputs is written as many
+     * times as it occurs in the input with fewer copies. When one input is much longer than the
+     * other the longer one is galloped through with {@link #exponentialSearch}, so intersecting a
+     * short list with a long one costs {@code O(m log(n / m))} instead of {@code O(m + n)}.
+     *
+     * @param a   a sorted array
+     * @param b   a sorted array
+     * @param dst the destination, at least {@code min(a.length, b.length)} long
+     * @return the number of values written to {@code dst}
+     * @throws IllegalArgumentException if {@code dst} is too short
+     */
+    public static int intersectSorted(long[] a, long[] b, long[] dst) {
+        java.util.Objects.requireNonNull(a, "a");
+        java.util.Objects.requireNonNull(b, "b");
+        java.util.Objects.requireNonNull(dst, "dst");
+        if (a.length > b.length) {
+            long[] tmp = a;
+            a = b;
+            b = tmp;
+        }
+        Assert.checkArgument(dst.length >= a.length, "dst too short: " + dst.length + " < " + a.length);
+
+        int count = 0;
+        if (b.length / GALLOP_RATIO >= a.length) {
+            for (int i = 0, j = 0; i < a.length && j < b.length; i++) {
+                j = lowerBound(b, j, b.length, a[i]);
+                if (j < b.length && b[j] == a[i]) {
+                    dst[count++] = a[i];
+                    j++;
+                }
+            }
+            return count;
+        }
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            long x = a[i];
+            long y = b[j];
+            if (x < y) {
+                i++;
+            } else if (x > y) {
+                j++;
+            } else {
+                dst[count++] = x;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes the values present in either {@code a} or {@code b}, which must be sorted in ascending
+     * order, to {@code dst} in ascending order. A value repeated in the inputs is written as many
+     * times as it occurs in the input with more copies. When one input is much longer than the
+     * other, runs of the longer one are copied in bulk between the positions found by {@link
+     * #exponentialSearch}.
+     *
+     * @param a   a sorted array
+     * @param b   a sorted array
+     * @param dst the destination, at least {@code a.length + b.length} long
+     * @return the number of values written to {@code dst}
+     * @throws IllegalArgumentException if {@code dst} is too short
+     */
+    public static int unionSorted(long[] a, long[] b, long[] dst) {
+        java.util.Objects.requireNonNull(a, "a");
+        java.util.Objects.requireNonNull(b, "b");
+        java.util.Objects.requireNonNull(dst, "dst");
+        Assert.checkArgument(dst.length >= (long) a.length + b.length,
+                "dst too short: " + dst.length + " < " + ((long) a.length + b.length));
+        if (a.length > b.length) {
+            long[] tmp = a;
+            a = b;
+            b = tmp;
+        }
+
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        if (b.length / GALLOP_RATIO >= a.length) {
+            for (; i < a.length; i++) {
+                int index = lowerBound(b, j, b.length, a[i]);
+                System.arraycopy(b, j, dst, count, index - j);
+                count += index - j;
+                dst[count++] = a[i];
+                j = index < b.length && b[index] == a[i] ? index + 1 : index;
+            }
+        } else {
+            while (i < a.length && j < b.length) {
+                long x = a[i];
+                long y = b[j];
+                if (x < y) {
+                    dst[count++] = x;
+                    i++;
+                } else if (x > y) {
+                    dst[count++] = y;
+                    j++;
+                } else {
+                    dst[count++] = x;
+                    i++;
+                    j++;
+                }
+            }
+            System.arraycopy(a, i, dst, count, a.length - i);
+            count += a.length - i;
+        }
+        System.arraycopy(b, j, dst, count, b.length - j);
+        return count + b.length - j;
+    }
+
+    /**
+     * Writes the values present in {@code a} but not in {@code b}, both of which must be sorted in
+     * ascending order, to {@code dst} in ascending order. Each occurrence in {@code b} cancels one
+     * occurrence of the same value in {@code a}. When one input is much longer than the other the
+     * longer one is galloped through with {@link #exponentialSearch}.
+     *
+     * @param a   a sorted array
+     * @param b   a sorted array of the values to remove
+     * @param dst the destination, at least {@code a.length} long
+     * @return the number of values written to {@code dst}
+     * @throws IllegalArgumentException if {@code dst} is too short
+     */
+    public static int differenceSorted(long[] a, long[] b, long[] dst) {
+        java.util.Objects.requireNonNull(a, "a");
+        java.util.Objects.requireNonNull(b, "b");
+        java.util.Objects.requireNonNull(dst, "dst");
+        Assert.checkArgument(dst.length >= a.length, "dst too short: " + dst.length + " < " + a.length);
+
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        if (b.length / GALLOP_RATIO >= a.length) {
+            for (; i < a.length; i++) {
+                j = lowerBound(b, j, b.length, a[i]);
+                if (j < b.length && b[j] == a[i]) {
+                    j++;
+                } else {
+                    dst[count++] = a[i];
+                }
+            }
+            return count;
+        }
+        if (a.length / GALLOP_RATIO >= b.length) {
+            for (; j < b.length && i < a.length; j++) {
+                int index = lowerBound(a, i, a.length, b[j]);
+                System.arraycopy(a, i, dst, count, index - i);
+                count += index - i;
+                i = index < a.length && a[index] == b[j] ? index + 1 : index;
+            }
+        } else {
+            while (i < a.length && j < b.length) {
+                long x = a[i];
+                long y = b[j];
+                if (x < y) {
+                    dst[count++] = x;
+                    i++;
+                } else if (x > y) {
+                    j++;
+                } else {
+                    i++;
+                    j++;
+                }
+            }
+        }
+        System.arraycopy(a, i, dst, count, a.length - i);
+        return count + a.length - i;
+    }
+
     /**
      * Returns the least value present in {@code array}.
      *
@@ -271,6 +544,75 @@ public final class Longs {
                 | (b8 & 0xFFL);
     }
 
+    /**
+     * Writes every value of {@code src} into {@code dst} starting at {@code dstOffset}, 8 bytes per
+     * value in the given byte order. Equivalent to calling {@link ByteBuffer#putLong(long)} once per
+     * value, but copies through a {@code LongBuffer} view of {@code dst}, which the JDK turns into a
+     * bulk copy (with a byte swap if {@code order} differs from the native order).
+     *
+     * @param src       the values to write
+     * @param dst       the destination, with room for {@code src.length * 8} bytes at {@code dstOffset}
+     * @param dstOffset the index of the first byte to write
+     * @param order     the byte order of the written values
+     * @throws IndexOutOfBoundsException if {@code dst} is too short
+     */
+    public static void toBytes(long[] src, byte[] dst, int dstOffset, ByteOrder order) {
+        toBytes(src, 0, src.length, dst, dstOffset, order);
+    }
+
+    /**
+     * Writes {@code length} values of {@code src} starting at {@code srcOffset} into {@code dst}
+     * starting at {@code dstOffset}, 8 bytes per value in the given byte order. Identical to {@link
+     * #toBytes(long[], byte[], int, ByteOrder)}, except for the range.
+     *
+     * @throws IndexOutOfBoundsException if either range is out of bounds
+     */
+    public static void toBytes(long[] src, int srcOffset, int length, byte[] dst, int dstOffset, ByteOrder order) {
+        java.util.Objects.requireNonNull(order, "order");
+        checkRange(srcOffset, srcOffset + length, src.length);
+        checkByteRange(dstOffset, length, dst.length);
+        ByteBuffer.wrap(dst, dstOffset, length * BYTES).order(order).asLongBuffer().put(src, srcOffset, length);
+    }
+
+    /**
+     * Reads {@code dst.length} values from {@code src} starting at {@code srcOffset}, 8 bytes per
+     * value in the given byte order, into {@code dst}. The inverse of {@link #toBytes(long[], byte[],
+     * int, ByteOrder)}.
+     *
+     * @param src       the bytes to read
+     * @param srcOffset the index of the first byte to read
+     * @param dst       the destination values
+     * @param order     the byte order of the values in {@code src}
+     * @throws IndexOutOfBoundsException if {@code src} is too short
+     */
+    public static void fromBytes(byte[] src, int srcOffset, long[] dst, ByteOrder order) {
+        fromBytes(src, srcOffset, dst, 0, dst.length, order);
+    }
+
+    /**
+     * Reads {@code length} values from {@code src} starting at {@code srcOffset}, 8 bytes per value
+     * in the given byte order, into {@code dst} starting at {@code dstOffset}. Identical to {@link
+     * #fromBytes(byte[], int, long[], ByteOrder)}, except for the range.
+     *
+     * @throws IndexOutOfBoundsException if either range is out of bounds
+     */
+    public static void fromBytes(byte[] src, int srcOffset, long[] dst, int dstOffset, int length, ByteOrder order) {
+        java.util.Objects.requireNonNull(order, "order");
+        checkRange(dstOffset, dstOffset + length, dst.length);
+        checkByteRange(srcOffset, length, src.length);
+        ByteBuffer.wrap(src, srcOffset, length * BYTES).order(order).asLongBuffer().get(dst, dstOffset, length);
+    }
+
+    /**
+     * Checks that {@code length} values starting at byte {@code offset} fit in {@code size} bytes.
+     */
+    private static void checkByteRange(int offset, int length, int size) {
+        if (offset < 0 || length < 0 || (long) length * BYTES > size - offset) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length + " * "
+                    + BYTES + ") out of bounds for length " + size);
+        }
+    }
+
     /*
      * Moving asciiDigits into this static holder class lets ProGuard eliminate and inline the Longs
      * class.
@@ -380,6 +722,218 @@ public final class Longs {
         }
     }
 
+    /**
+     * The number of decimal digits that always fit into a {@code long} without overflow checks.
+     */
+    private static final int SAFE_DIGITS = 18;
+
+    /**
+     * Parses the characters of {@code seq} between {@code from} inclusive and {@code to} exclusive as
+     * a signed decimal long value, without creating a substring. Accepts the same input as {@link
+     * #tryParse(String)}: an optional ASCII {@code '-'} followed by ASCII digits.
+     *
+     * <p>Unlike {@link Long#parseLong(String)}, this method returns {@code defaultValue} instead of
+     * throwing an exception if parsing fails, and does not allocate.
+     *
+     * @param seq          the character sequence containing the value
+     * @param from         the index of the first character, inclusive
+     * @param to           the index of the last character, exclusive
+     * @param defaultValue the value to return if the range cannot be parsed as a long value
+     * @return the parsed value, or {@code defaultValue}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static long parseLong(CharSequence seq, int from, int to, long defaultValue) {
+        checkRange(from, to, seq.length());
+        if (from == to) {
+            return defaultValue;
+        }
+        boolean negative = seq.charAt(from) == '-';
+        int index = negative ? from + 1 : from;
+        int digits = to - index;
+        if (digits == 0) {
+            return defaultValue;
+        }
+        if (digits > SAFE_DIGITS) {
+            return parseChecked(seq, index, to, negative, defaultValue);
+        }
+        long value = 0;
+        for (; index < to; index++) {
+            int digit = seq.charAt(index) - '0';
+            if (digit < 0 || digit > 9) {
+                return defaultValue;
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses the bytes of {@code bytes} between {@code from} inclusive and {@code to} exclusive as a
+     * signed decimal long value encoded in ASCII (or any ASCII compatible charset), without decoding
+     * them to a string. Accepts the same input as {@link #tryParse(String)}. Eight digits are
+     * validated and combined per step.
+     *
+     * @param bytes        the array containing the value
+     * @param from         the index of the first byte, inclusive
+     * @param to           the index of the last byte, exclusive
+     * @param defaultValue the value to return if the range cannot be parsed as a long value
+     * @return the parsed value, or {@code defaultValue}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static long parseLong(byte[] bytes, int from, int to, long defaultValue) {
+        checkRange(from, to, bytes.length);
+        if (from == to) {
+            return defaultValue;
+        }
+        boolean negative = bytes[from] == '-';
+        int index = negative ? from + 1 : from;
+        int digits = to - index;
+        if (digits == 0) {
+            return defaultValue;
+        }
+        if (digits > SAFE_DIGITS) {
+            return parseChecked(bytes, index, to, negative, defaultValue);
+        }
+        long value = 0;
+        for (; index + 8 <= to; index += 8) {
+            long word = (bytes[index] & 0xFFL)
+                    | (bytes[index + 1] & 0xFFL) << 8
+                    | (bytes[index + 2] & 0xFFL) << 16
+                    | (bytes[index + 3] & 0xFFL) << 24
+                    | (bytes[index + 4] & 0xFFL) << 32
+                    | (bytes[index + 5] & 0xFFL) << 40
+                    | (bytes[index + 6] & 0xFFL) << 48
+                    | (bytes[index + 7] & 0xFFL) << 56;
+            if (!isEightDigits(word)) {
+                return defaultValue;
+            }
+            value = value * 100_000_000L + eightDigits(word);
+        }
+        for (; index < to; index++) {
+            int digit = bytes[index] - '0';
+            if (digit < 0 || digit > 9) {
+                return defaultValue;
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a range of {@code seq} like {@link #parseLong(CharSequence, int, int, long)}, returning
+     * an empty {@link OptionalLong} if it cannot be parsed.
+     *
+     * @param seq  the character sequence containing the value
+     * @param from the index of the first character, inclusive
+     * @param to   the index of the last character, exclusive
+     * @return the parsed value, or empty
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static OptionalLong tryParse(CharSequence seq, int from, int to) {
+        long value = parseLong(seq, from, to, Long.MIN_VALUE);
+        // Long.MIN_VALUE is both the sentinel and a valid result, parse again with another sentinel
+        if (value == Long.MIN_VALUE && parseLong(seq, from, to, 0L) != Long.MIN_VALUE) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(value);
+    }
+
+    /**
+     * Parses a range of {@code bytes} like {@link #parseLong(byte[], int, int, long)}, returning an
+     * empty {@link OptionalLong} if it cannot be parsed.
+     *
+     * @param bytes the array containing the value
+     * @param from  the index of the first byte, inclusive
+     * @param to    the index of the last byte, exclusive
+     * @return the parsed value, or empty
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static OptionalLong tryParse(byte[] bytes, int from, int to) {
+        long value = parseLong(bytes, from, to, Long.MIN_VALUE);
+        if (value == Long.MIN_VALUE && parseLong(bytes, from, to, 0L) != Long.MIN_VALUE) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(value);
+    }
+
+    /**
+     * Overflow checked accumulation for inputs that may exceed the range of a {@code long}.
+     */
+    private static long parseChecked(CharSequence seq, int index, int to, boolean negative, long defaultValue) {
+        long accum = 0;
+        long cap = Long.MIN_VALUE / 10;
+        for (; index < to; index++) {
+            int digit = seq.charAt(index) - '0';
+            if (digit < 0 || digit > 9 || accum < cap) {
+                return defaultValue;
+            }
+            accum *= 10;
+            if (accum < Long.MIN_VALUE + digit) {
+                return defaultValue;
+            }
+            accum -= digit;
+        }
+        if (negative) {
+            return accum;
+        } else if (accum == Long.MIN_VALUE) {
+            return defaultValue;
+        } else {
+            return -accum;
+        }
+    }
+
+    /**
+     * Overflow checked accumulation over ASCII bytes, see {@link #parseChecked(CharSequence, int,
+     * int, boolean, long)}.
+     */
+    private static long parseChecked(byte[] bytes, int index, int to, boolean negative, long defaultValue) {
+        long accum = 0;
+        long cap = Long.MIN_VALUE / 10;
+        for (; index < to; index++) {
+            int digit = bytes[index] - '0';
+            if (digit < 0 || digit > 9 || accum < cap) {
+                return defaultValue;
+            }
+            accum *= 10;
+            if (accum < Long.MIN_VALUE + digit) {
+                return defaultValue;
+            }
+            accum -= digit;
+        }
+        if (negative) {
+            return accum;
+        } else if (accum == Long.MIN_VALUE) {
+            return defaultValue;
+        } else {
+            return -accum;
+        }
+    }
+
+    /**
+     * Whether all eight bytes of a little-endian word are ASCII digits.
+     */
+    private static boolean isEightDigits(long word) {
+        return ((word & 0xF0F0F0F0F0F0F0F0L) | (((word + 0x0606060606060606L) & 0xF0F0F0F0F0F0F0F0L) >>> 4))
+                == 0x3333333333333333L;
+    }
+
+    /**
+     * Combines eight ASCII digits of a little-endian word, the first digit in the lowest byte.
+     */
+    private static long eightDigits(long word) {
+        long value = word - 0x3030303030303030L;
+        value = (value * 10) + (value >>> 8);
+        return (((value & 0x000000FF000000FFL) * (100 + (1000000L << 32)))
+                + (((value >>> 16) & 0x000000FF000000FFL) * (1 + (10000L << 32)))) >>> 32;
+    }
+
+    static void checkRange(int from, int to, int length) {
+        if (from < 0 || from > to || to > length) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + from + ", " + to + ") out of bounds for length " + length);
+        }
+    }
+
     /**
      * Returns an array containing the same values as {@code array}, but guaranteed to be of a
      * specified minimum length. If {@code array} already has a length of at least {@code minLength},
@@ -406,6 +960,7 @@ public final class Longs {
      * @param separator the text that should appear between consecutive values in the resulting string
      *                  (but not at the start or end)
      * @param array     an array of {@code long} values, possibly empty
+     * @throws OutOfMemoryError if the result would be longer than {@code Integer.MAX_VALUE}
      */
     public static String join(String separator, long... array) {
         java.util.Objects.requireNonNull(separator);
@@ -413,13 +968,245 @@ public final class Longs {
             return "";
         }
 
-        // For pre-sizing a builder, just get the right order of magnitude
-        StringBuilder builder = new StringBuilder(array.length * 10);
-        builder.append(array[0]);
+        // Size the result exactly and format every value in place
+        long length = (long) separator.length() * (array.length - 1);
+        for (long value : array) {
+            length += decimalLength(value);
+        }
+        char[] chars = new char[Joiner.checkLength(length)];
+        int pos = writeTo(array[0], chars, 0);
         for (int i = 1; i < array.length; i++) {
-            builder.append(separator).append(array[i]);
+            separator.getChars(0, separator.length(), chars, pos);
+            pos = writeTo(array[i], chars, pos + separator.length());
+        }
+        return new String(chars);
+    }
+
+    /**
+     * The maximum number of characters of a decimal {@code long}, including the minus sign.
+     */
+    public static final int MAX_DECIMAL_LENGTH = 20;
+
+    /**
+     * Returns the number of characters of the decimal representation of {@code value}, including
+     * the minus sign; equal to {@code String.valueOf(value).length()}.
+     *
+     * @param value a primitive {@code long} value
+     * @return the number of characters
+     */
+    public static int decimalLength(long value) {
+        // work with the negative value, which also covers MIN_VALUE
+        int sign = 0;
+        if (value < 0) {
+            sign = 1;
+        } else {
+            value = -value;
+        }
+        long power = -10;
+        for (int i = 1; i < 19; i++) {
+            if (value > power) {
+                return i + sign;
+            }
+            power = 10 * power;
+        }
+        return 19 + sign;
+    }
+
+    /**
+     * Writes the decimal representation of {@code value} as ASCII bytes into {@code dst} starting at
+     * {@code offset}, two digits at a time. The output equals {@code String.valueOf(value)}.
+     *
+     * @param value  a primitive {@code long} value
+     * @param dst    the destination array
+     * @param offset the index of the first byte to write
+     * @return the index after the last written byte
+     * @throws IndexOutOfBoundsException if {@code dst} has not enough room after {@code offset}
+     */
+    public static int writeTo(long value, byte[] dst, int offset) {
+        int length = decimalLength(value);
+        checkRoom(offset, length, dst.length);
+        int pos = offset + length;
+        if (value < 0) {
+            dst[offset] = '-';
+        } else {
+            value = -value;
+        }
+        while (value <= -100) {
+            long q = value / 100;
+            int r = (int) (q * 100 - value);
+            value = q;
+            dst[--pos] = DIGIT_ONES[r];
+            dst[--pos] = DIGIT_TENS[r];
+        }
+        int r = (int) -value;
+        dst[--pos] = DIGIT_ONES[r];
+        if (r >= 10) {
+            dst[--pos] = DIGIT_TENS[r];
+        }
+        return offset + length;
+    }
+
+    /**
+     * Writes the decimal representation of {@code value} into {@code dst} starting at {@code
+     * offset}, two digits at a time. The output equals {@code String.valueOf(value)}.
+     *
+     * @param value  a primitive {@code long} value
+     * @param dst    the destination array
+     * @param offset the index of the first character to write
+     * @return the index after the last written character
+     * @throws IndexOutOfBoundsException if {@code dst} has not enough room after {@code offset}
+     */
+    public static int writeTo(long value, char[] dst, int offset) {
+        int length = decimalLength(value);
+        checkRoom(offset, length, dst.length);
+        int pos = offset + length;
+        if (value < 0) {
+            dst[offset] = '-';
+        } else {
+            value = -value;
+        }
+        while (value <= -100) {
+            long q = value / 100;
+            int r = (int) (q * 100 - value);
+            value = q;
+            dst[--pos] = (char) DIGIT_ONES[r];
+            dst[--pos] = (char) DIGIT_TENS[r];
+        }
+        int r = (int) -value;
+        dst[--pos] = (char) DIGIT_ONES[r];
+        if (r >= 10) {
+            dst[--pos] = (char) DIGIT_TENS[r];
+        }
+        return offset + length;
+    }
+
+    /**
+     * Appends the supplied {@code long} values separated by {@code separator} to {@code appendable},
+     * without creating a string per value.
+     *
+     * @param appendable the target
+     * @param separator  the text that should appear between consecutive values
+     * @param array      an array of {@code long} values, possibly empty
+     * @return {@code appendable}
+     * @throws IOException if {@code appendable} throws one
+     */
+    public static <A extends Appendable> A appendTo(A appendable, String separator, long... array)
+            throws IOException {
+        java.util.Objects.requireNonNull(appendable);
+        java.util.Objects.requireNonNull(separator);
+        if (appendable instanceof StringBuilder) {
+            appendTo((StringBuilder) appendable, separator, array);
+            return appendable;
+        }
+        char[] scratch = new char[MAX_DECIMAL_LENGTH];
+        if (appendable instanceof Writer) {
+            Writer writer = (Writer) appendable;
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    writer.write(separator);
+                }
+                writer.write(scratch, 0, writeTo(array[i], scratch, 0));
+            }
+            return appendable;
+        }
+        CharBuffer view = CharBuffer.wrap(scratch);
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                appendable.append(separator);
+            }
+            appendable.append(view, 0, writeTo(array[i], scratch, 0));
+        }
+        return appendable;
+    }
+
+    /**
+     * Appends the supplied {@code long} values separated by {@code separator} to {@code builder}.
+     * Identical to {@link #appendTo(Appendable, String, long...)}, except that it does not throw
+     * {@link IOException}.
+     *
+     * @param builder   the target
+     * @param separator the text that should appear between consecutive values
+     * @param array     an array of {@code long} values, possibly empty
+     * @return {@code builder}
+     */
+    public static StringBuilder appendTo(StringBuilder builder, String separator, long... array) {
+        java.util.Objects.requireNonNull(builder);
+        java.util.Objects.requireNonNull(separator);
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                builder.append(separator);
+            }
+            builder.append(array[i]);
+        }
+        return builder;
+    }
+
+    /**
+     * Writes the supplied {@code long} values separated by {@code separator} into {@code buffer} as
+     * UTF-8 bytes, starting at its position. Heap buffers are written in place. Either all values
+     * are written, or nothing is written and an exception is thrown.
+     *
+     * @param buffer    the target
+     * @param separator the text that should appear between consecutive values
+     * @param array     an array of {@code long} values, possibly empty
+     * @return {@code buffer}
+     * @throws BufferOverflowException if the remaining space of {@code buffer} is not enough
+     */
+    public static ByteBuffer appendTo(ByteBuffer buffer, String separator, long... array) {
+        java.util.Objects.requireNonNull(buffer);
+        byte[] sep = separator.getBytes(StandardCharsets.UTF_8);
+        long total = array.length == 0 ? 0 : (long) sep.length * (array.length - 1);
+        for (long value : array) {
+            total += decimalLength(value);
+        }
+        if (total > buffer.remaining()) {
+            throw new BufferOverflowException();
+        }
+        if (buffer.hasArray()) {
+            byte[] dst = buffer.array();
+            int pos = buffer.arrayOffset() + buffer.position();
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    System.arraycopy(sep, 0, dst, pos, sep.length);
+                    pos += sep.length;
+                }
+                pos = writeTo(array[i], dst, pos);
+            }
+            buffer.position(pos - buffer.arrayOffset());
+        } else {
+            byte[] scratch = new byte[MAX_DECIMAL_LENGTH];
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    buffer.put(sep);
+                }
+                buffer.put(scratch, 0, writeTo(array[i], scratch, 0));
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * The tens digit of every number in [0, 100), as an ASCII byte.
+     */
+    static final byte[] DIGIT_TENS = new byte[100];
+
+    /**
+     * The ones digit of every number in [0, 100), as an ASCII byte.
+     */
+    static final byte[] DIGIT_ONES = new byte[100];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_TENS[i] = (byte) ('0' + i / 10);
+            DIGIT_ONES[i] = (byte) ('0' + i % 10);
+        }
+    }
+
+    static void checkRoom(int offset, int length, int size) {
+        if (offset < 0 || offset > size || size - offset < length) {
+            throw new IndexOutOfBoundsException(
+                    "Cannot write " + length + " elements at offset " + offset + " for length " + size);
         }
-        return builder.toString();
     }
 
     /**
@@ -503,4 +1290,229 @@ public final class Longs {
         }
     }
 
+    /**
+     * Ranges shorter than this are sorted with {@link Arrays#sort(long[], int, int)} rather than radix
+     * sorted, since the counting passes do not pay off.
+     */
+    private static final int RADIX_THRESHOLD = 512;
+
+    /**
+     * Ranges shorter than this are co-sorted by insertion sort.
+     */
+    private static final int INSERTION_THRESHOLD = 32;
+
+    /**
+     * Ranges shorter than this are negated sequentially by {@link #parallelSortDescending}.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * Sorts {@code array} in ascending order using a least-significant-digit radix sort over bytes.
+     * Runs in {@code O(n)} time with an {@code n}-element scratch array, and skips byte positions
+     * on which all values agree, so arrays of small or clustered values (IDs, timestamps) need fewer
+     * than 8 passes.
+     */
+    public static void radixSort(long[] array) {
+        java.util.Objects.requireNonNull(array);
+        radixSort(array, null, 0, array.length);
+    }
+
+    /**
+     * Sorts the elements of {@code array} between {@code fromIndex} inclusive and {@code toIndex}
+     * exclusive in ascending order using a least-significant-digit radix sort. Identical to {@link
+     * #radixSort(long[])}, except for the range.
+     *
+     * @throws IndexOutOfBoundsException if {@code fromIndex < 0}, {@code toIndex > array.length}, or
+     *                                   {@code fromIndex > toIndex}
+     */
+    public static void radixSort(long[] array, int fromIndex, int toIndex) {
+        java.util.Objects.requireNonNull(array);
+        checkRange(fromIndex, toIndex, array.length);
+        radixSort(array, null, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts the elements of {@code array} in descending order with {@link Arrays#parallelSort(long[])}.
+     * Instead of sorting ascending and reversing, every value is replaced by its bitwise complement,
+     * which reverses the order of all {@code long} values, before and after the sort; both passes run
+     * in parallel for large arrays.
+     */
+    public static void parallelSortDescending(long[] array) {
+        java.util.Objects.requireNonNull(array);
+        parallelSortDescending(array, 0, array.length);
+    }
+
+    /**
+     * Sorts the elements of {@code array} between {@code fromIndex} inclusive and {@code toIndex}
+     * exclusive in descending order with {@link Arrays#parallelSort(long[], int, int)}. Identical to
+     * {@link #parallelSortDescending(long[])}, except for the range.
+     *
+     * @throws IndexOutOfBoundsException if {@code fromIndex < 0}, {@code toIndex > array.length}, or
+     *                                   {@code fromIndex > toIndex}
+     */
+    public static void parallelSortDescending(long[] array, int fromIndex, int toIndex) {
+        java.util.Objects.requireNonNull(array);
+        checkRange(fromIndex, toIndex, array.length);
+        complement(array, fromIndex, toIndex);
+        Arrays.parallelSort(array, fromIndex, toIndex);
+        complement(array, fromIndex, toIndex);
+    }
+
+    private static void complement(long[] array, int fromIndex, int toIndex) {
+        if (toIndex - fromIndex < PARALLEL_THRESHOLD) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                array[i] = ~array[i];
+            }
+        } else {
+            IntStream.range(fromIndex, toIndex).parallel().forEach(i -> array[i] = ~array[i]);
+        }
+    }
+
+    /**
+     * Returns the permutation that sorts {@code array} in ascending order: {@code array[result[0]] <=
+     * array[result[1]] <= ...}. Equal values keep their original relative order. {@code array} is not
+     * modified.
+     *
+     * @param array an array of {@code long} values, possibly empty
+     * @return the indexes of {@code array} in sorted order
+     */
+    public static int[] argsort(long[] array) {
+        java.util.Objects.requireNonNull(array);
+        long[] keys = array.clone();
+        int[] indexes = new int[array.length];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+        radixSort(keys, indexes, 0, keys.length);
+        return indexes;
+    }
+
+    /**
+     * Sorts {@code keys} in ascending order and applies the same permutation to {@code values}, so
+     * that {@code values[i]} stays paired with {@code keys[i]}. The sort is stable.
+     *
+     * @param keys   the sort keys
+     * @param values the values paired with {@code keys}, of the same length
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    public static void sortByKey(long[] keys, int[] values) {
+        java.util.Objects.requireNonNull(keys, "keys");
+        java.util.Objects.requireNonNull(values, "values");
+        Assert.checkArgument(keys.length == values.length,
+                "keys and values have different lengths: " + keys.length + ", " + values.length);
+        radixSort(keys, values, 0, keys.length);
+    }
+
+    /**
+     * Radix sorts {@code array[fromIndex, toIndex)}, moving {@code payload}, if not {@code null},
+     * along with it. Stable, which {@link #argsort} relies on.
+     */
+    private static void radixSort(long[] array, int[] payload, int fromIndex, int toIndex) {
+        int length = toIndex - fromIndex;
+        if (payload == null && length < RADIX_THRESHOLD) {
+            Arrays.sort(array, fromIndex, toIndex);
+            return;
+        }
+        if (length < INSERTION_THRESHOLD) {
+            insertionSort(array, payload, fromIndex, toIndex);
+            return;
+        }
+
+        // one pass counts every byte position; flipping the sign bit makes signed order unsigned
+        int[] counts = new int[8 * 256];
+        for (int i = fromIndex; i < toIndex; i++) {
+            long key = array[i] ^ Long.MIN_VALUE;
+            for (int digit = 0; digit < 8; digit++) {
+                counts[(digit << 8) + (int) ((key >>> (digit << 3)) & 0xFF)]++;
+            }
+        }
+
+        long[] src = array;
+        int[] srcPayload = payload;
+        int srcFrom = fromIndex;
+        long[] dst = new long[length];
+        int[] dstPayload = payload == null ? null : new int[length];
+        int dstFrom = 0;
+        for (int digit = 0; digit < 8; digit++) {
+            int shift = digit << 3;
+            int base = digit << 8;
+            if (counts[base + (int) (((src[srcFrom] ^ Long.MIN_VALUE) >>> shift) & 0xFF)] == length) {
+                // all values share this byte
+                continue;
+            }
+            for (int b = 0, offset = dstFrom; b < 256; b++) {
+                int count = counts[base + b];
+                counts[base + b] = offset;
+                offset += count;
+            }
+            for (int i = srcFrom, end = srcFrom + length; i < end; i++) {
+                long value = src[i];
+                int position = counts[base + (int) (((value ^ Long.MIN_VALUE) >>> shift) & 0xFF)]++;
+                dst[position] = value;
+                if (payload != null) {
+                    dstPayload[position] = srcPayload[i];
+                }
+            }
+            long[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int[] tmpPayload = srcPayload;
+            srcPayload = dstPayload;
+            dstPayload = tmpPayload;
+            int tmpFrom = srcFrom;
+            srcFrom = dstFrom;
+            dstFrom = tmpFrom;
+        }
+        if (src != array) {
+            System.arraycopy(src, srcFrom, array, fromIndex, length);
+            if (payload != null) {
+                System.arraycopy(srcPayload, srcFrom, payload, fromIndex, length);
+            }
+        }
+    }
+
+    private static void insertionSort(long[] array, int[] payload, int fromIndex, int toIndex) {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            long value = array[i];
+            int paired = payload == null ? 0 : payload[i];
+            int j = i - 1;
+            while (j >= fromIndex && array[j] > value) {
+                array[j + 1] = array[j];
+                if (payload != null) {
+                    payload[j + 1] = payload[j];
+                }
+                j--;
+            }
+            array[j + 1] = value;
+            if (payload != null) {
+                payload[j + 1] = paired;
+            }
+        }
+    }
+
+    /**
+     * Sorts {@code keys} in ascending order and applies the same permutation to {@code values}, so
+     * that {@code values[i]} stays paired with {@code keys[i]}. The sort is stable.
+     *
+     * @param keys   the sort keys
+     * @param values the values paired with {@code keys}, of the same length
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    public static void sortByKey(long[] keys, long[] values) {
+        java.util.Objects.requireNonNull(keys, "keys");
+        java.util.Objects.requireNonNull(values, "values");
+        Assert.checkArgument(keys.length == values.length,
+                "keys and values have different lengths: " + keys.length + ", " + values.length);
+        int[] indexes = new int[keys.length];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+        radixSort(keys, indexes, 0, keys.length);
+        long[] sorted = new long[values.length];
+        for (int i = 0; i < indexes.length; i++) {
+            sorted[i] = values[indexes[i]];
+        }
+        System.arraycopy(sorted, 0, values, 0, sorted.length);
+    }
+
 }
@@ -0,0 +1,299 @@
+package tomkit.core.lang;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 命名风格转换工具类
+ * <p>
+ * 驼峰（camelCase）、帕斯卡（PascalCase）与下划线（under_score）、短横线（kebab-case）命名之间的转换。
+ * 所有转换共用同一个单次遍历的实现，直接写入预分配的字符数组，时间复杂度为O(n)。
+ * 列名、字段名这类重复出现的少量标识符可以通过{@link #cached(Function, int)}缓存转换结果
+ *
+ * <pre class="code">
+ *     NamingCases.underscoreToCamelCase("user_name") = "userName"
+ *     NamingCases.camelToKebabCase("userName")       = "user-name"
+ *     NamingCases.pascalToUnderscoreCase("UserName") = "user_name"
+ *
+ *     Function&lt;String, String&gt; toField = NamingCases.cached(NamingCases::underscoreToCamelCase, 1024);
+ *     toField.apply("user_name")                     = "userName"
+ * </pre>
+ *
+ * @author yh
+ * @since 2026/10/18
+ */
+public final class NamingCases {
+
+    /**
+     * 下划线
+     */
+    private static final char UNDERLINE = '_';
+
+    /**
+     * 短横线
+     */
+    private static final char HYPHEN = '-';
+
+    private NamingCases() {
+    }
+
+    /**
+     * 下划线命名转驼峰命名，字符串长度需大于2
+     *
+     * <p>source为 {@code null} 或 {@code ""} 时直接返回source</p>
+     *
+     * <pre class="code">
+     *     NamingCases.underscoreToCamelCase(null)   = null
+     *     NamingCases.underscoreToCamelCase("")     = ""
+     *     NamingCases.underscoreToCamelCase("_ab")  = "_ab"
+     *     NamingCases.underscoreToCamelCase("ab_")  = "ab_"
+     *     NamingCases.underscoreToCamelCase("a_b")  = "aB"
+     *     NamingCases.underscoreToCamelCase("a1_b") = "a1B"
+     * </pre>
+     *
+     * @param source 下划线命名字符串
+     * @return 驼峰命名字符串
+     */
+    public static String underscoreToCamelCase(final String source) {
+        return toCamel(source, UNDERLINE, false);
+    }
+
+    /**
+     * 驼峰命名转下划线命名，字符串长度需大于2
+     *
+     * <p>source为 {@code null} 或 {@code ""} 时直接返回source</p>
+     *
+     * <pre class="code">
+     *     NamingCases.camelToUnderscoreCase(null)   = null
+     *     NamingCases.camelToUnderscoreCase("")     = ""
+     *     NamingCases.camelToUnderscoreCase("Abc")  = "Abc"
+     *     NamingCases.camelToUnderscoreCase("abC")  = "abC"
+     *     NamingCases.camelToUnderscoreCase("ABc")  = "ABc"
+     *     NamingCases.camelToUnderscoreCase("aBC")  = "aBC"
+     *     NamingCases.camelToUnderscoreCase("aBc")  = "a_bc"
+     *     NamingCases.camelToUnderscoreCase("a1Bc") = "a1_bc"
+     * </pre>
+     *
+     * @param source 驼峰命名字符串
+     * @return 下划线命名字符串
+     */
+    public static String camelToUnderscoreCase(final String source) {
+        return fromCamel(source, UNDERLINE, false);
+    }
+
+    /**
+     * 短横线命名转驼峰命名，规则同{@link #underscoreToCamelCase(String)}
+     *
+     * <pre class="code">
+     *     NamingCases.kebabToCamelCase("user-name") = "userName"
+     * </pre>
+     *
+     * @param source 短横线命名字符串
+     * @return 驼峰命名字符串
+     */
+    public static String kebabToCamelCase(final String source) {
+        return toCamel(source, HYPHEN, false);
+    }
+
+    /**
+     * 驼峰命名转短横线命名，规则同{@link #camelToUnderscoreCase(String)}
+     *
+     * <pre class="code">
+     *     NamingCases.camelToKebabCase("userName") = "user-name"
+     * </pre>
+     *
+     * @param source 驼峰命名字符串
+     * @return 短横线命名字符串
+     */
+    public static String camelToKebabCase(final String source) {
+        return fromCamel(source, HYPHEN, false);
+    }
+
+    /**
+     * 下划线命名转帕斯卡命名，即转驼峰命名后首字母大写
+     *
+     * <pre class="code">
+     *     NamingCases.underscoreToPascalCase("user_name") = "UserName"
+     * </pre>
+     *
+     * @param source 下划线命名字符串
+     * @return 帕斯卡命名字符串
+     */
+    public static String underscoreToPascalCase(final String source) {
+        return toCamel(source, UNDERLINE, true);
+    }
+
+    /**
+     * 帕斯卡命名转下划线命名，即首字母小写后转下划线命名
+     *
+     * <pre class="code">
+     *     NamingCases.pascalToUnderscoreCase("UserName") = "user_name"
+     * </pre>
+     *
+     * @param source 帕斯卡命名字符串
+     * @return 下划线命名字符串
+     */
+    public static String pascalToUnderscoreCase(final String source) {
+        return fromCamel(source, UNDERLINE, true);
+    }
+
+    /**
+     * 短横线命名转帕斯卡命名，即转驼峰命名后首字母大写
+     *
+     * <pre class="code">
+     *     NamingCases.kebabToPascalCase("user-name") = "UserName"
+     * </pre>
+     *
+     * @param source 短横线命名字符串
+     * @return 帕斯卡命名字符串
+     */
+    public static String kebabToPascalCase(final String source) {
+        return toCamel(source, HYPHEN, true);
+    }
+
+    /**
+     * 帕斯卡命名转短横线命名，即首字母小写后转短横线命名
+     *
+     * <pre class="code">
+     *     NamingCases.pascalToKebabCase("UserName") = "user-name"
+     * </pre>
+     *
+     * @param source 帕斯卡命名字符串
+     * @return 短横线命名字符串
+     */
+    public static String pascalToKebabCase(final String source) {
+        return fromCamel(source, HYPHEN, true);
+    }
+
+    /**
+     * 为转换函数增加有界缓存
+     * <p>
+     * 适用于列名、字段名等数量有限且反复出现的标识符。缓存数量达到上限后不再缓存新的标识符，
+     * 已缓存的结果保持不变；{@code null}不缓存。返回的函数是线程安全的
+     *
+     * @param converter 转换函数，如{@code NamingCases::underscoreToCamelCase}
+     * @param maxSize   缓存数量上限
+     * @return 带缓存的转换函数
+     */
+    public static Function<String, String> cached(final Function<String, String> converter, final int maxSize) {
+        Assert.notNull(converter, "converter cannot be null");
+        Assert.isTrue(maxSize > 0, "maxSize has to be greater than 0");
+
+        return new BoundedCache(converter, maxSize);
+    }
+
+    /**
+     * 分隔符命名转驼峰命名
+     * <p>
+     * 与逐个修改{@link StringBuilder}的实现结果一致：分隔符前一个字符取已输出的字符
+     *
+     * @param source     分隔符命名字符串
+     * @param separator  分隔符
+     * @param upperFirst 是否首字母大写
+     */
+    private static String toCamel(final String source, final char separator, final boolean upperFirst) {
+        if (Strings.isEmpty(source)) {
+            return source;
+        }
+        final int length = source.length();
+        final char[] out = new char[length];
+        boolean changed = false;
+        int k = 0;
+        out[k++] = source.charAt(0);
+        int i = 1;
+        while (i < length - 1) {
+            final char current = source.charAt(i);
+            final char after = source.charAt(i + 1);
+            if (current == separator && Character.isLowerCase(after) && isLowerOrDigit(out[k - 1])) {
+                out[k++] = Character.toUpperCase(after);
+                i += 2;
+                changed = true;
+            } else {
+                out[k++] = current;
+                i++;
+            }
+        }
+        while (i < length) {
+            out[k++] = source.charAt(i++);
+        }
+        if (upperFirst) {
+            final char first = Character.toUpperCase(out[0]);
+            changed |= first != out[0];
+            out[0] = first;
+        }
+        return changed ? new String(out, 0, k) : source;
+    }
+
+    /**
+     * 驼峰命名转分隔符命名
+     *
+     * @param source     驼峰命名字符串
+     * @param separator  分隔符
+     * @param lowerFirst 是否先将首字母小写
+     */
+    private static String fromCamel(final String source, final char separator, final boolean lowerFirst) {
+        if (Strings.isEmpty(source)) {
+            return source;
+        }
+        final int length = source.length();
+        // 每次插入分隔符后紧跟小写字母，不会连续插入，最多插入length/2个
+        final char[] out = new char[length + (length >> 1)];
+        int k = 0;
+        final char first = source.charAt(0);
+        out[k++] = lowerFirst ? Character.toLowerCase(first) : first;
+        boolean changed = out[0] != first;
+        for (int i = 1; i < length - 1; i++) {
+            final char current = source.charAt(i);
+            if (Character.isUpperCase(current) && Character.isLowerCase(source.charAt(i + 1))
+                    && isLowerOrDigit(out[k - 1])) {
+                out[k++] = separator;
+                out[k++] = Character.toLowerCase(current);
+                changed = true;
+            } else {
+                out[k++] = current;
+            }
+        }
+        if (length > 1) {
+            out[k++] = source.charAt(length - 1);
+        }
+        return changed ? new String(out, 0, k) : source;
+    }
+
+    private static boolean isLowerOrDigit(final char ch) {
+        return Character.isLowerCase(ch) || Characters.isAsciiNumeric(ch);
+    }
+
+    /**
+     * 有界缓存
+     */
+    private static final class BoundedCache implements Function<String, String> {
+
+        private final Function<String, String> converter;
+        private final int maxSize;
+        private final Map<String, String> cache = new ConcurrentHashMap<>();
+
+        private BoundedCache(final Function<String, String> converter, final int maxSize) {
+            this.converter = converter;
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public String apply(final String source) {
+            if (source == null) {
+                return converter.apply(null);
+            }
+            final String cached = cache.get(source);
+            if (cached != null) {
+                return cached;
+            }
+            final String result = converter.apply(source);
+            if (result != null && cache.size() < maxSize) {
+                final String previous = cache.putIfAbsent(source, result);
+                return previous != null ? previous : result;
+            }
+            return result;
+        }
+    }
+
+}
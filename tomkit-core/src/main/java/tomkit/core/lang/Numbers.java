@@ -2,6 +2,7 @@ package tomkit.core.lang;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.text.ParseException;
@@ -242,6 +243,183 @@ public final class Numbers {
         }
     }
 
+    /**
+     * Parse the characters of {@code seq} between {@code from} inclusive and {@code to}
+     * exclusive as a {@code double}, without creating a substring for plain decimal input.
+     * <p>Plain decimals such as {@code -12.5} or {@code 3e-4} with at most 18 significant
+     * digits whose value can be computed exactly are parsed directly. Any other input is
+     * handed to {@link Double#parseDouble(String)}, so the accepted syntax is the same.
+     * Returns {@code defaultValue} instead of throwing if the text cannot be parsed.
+     *
+     * @param seq          the character sequence containing the value
+     * @param from         the index of the first character, inclusive
+     * @param to           the index of the last character, exclusive
+     * @param defaultValue the value to return if the range cannot be parsed
+     * @return the parsed value, or {@code defaultValue}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @see Double#parseDouble(String)
+     */
+    public static double parseDouble(CharSequence seq, int from, int to, double defaultValue) {
+        Longs.checkRange(from, to, seq.length());
+        double value = fastParseDouble(seq, from, to);
+        if (value == value) {
+            return value;
+        }
+        return slowParseDouble(seq.subSequence(from, to).toString(), defaultValue);
+    }
+
+    /**
+     * Parse the ASCII bytes of {@code bytes} between {@code from} inclusive and {@code to}
+     * exclusive as a {@code double}, without decoding plain decimal input to a string.
+     * Follows the same rules as {@link #parseDouble(CharSequence, int, int, double)}.
+     *
+     * @param bytes        the array containing the value
+     * @param from         the index of the first byte, inclusive
+     * @param to           the index of the last byte, exclusive
+     * @param defaultValue the value to return if the range cannot be parsed
+     * @return the parsed value, or {@code defaultValue}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public static double parseDouble(byte[] bytes, int from, int to, double defaultValue) {
+        Longs.checkRange(from, to, bytes.length);
+        double value = fastParseDouble(new ByteChars(bytes), from, to);
+        if (value == value) {
+            return value;
+        }
+        return slowParseDouble(new String(bytes, from, to - from, StandardCharsets.ISO_8859_1), defaultValue);
+    }
+
+    /**
+     * Exactly representable powers of ten.
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Parse a plain decimal whose mantissa fits into 53 bits and whose decimal exponent is
+     * within the exactly representable powers of ten, so that a single multiplication or
+     * division gives the correctly rounded result. Returns {@code NaN} for anything else.
+     */
+    private static double fastParseDouble(CharSequence seq, int from, int to) {
+        int index = from;
+        boolean negative = false;
+        if (index < to && (seq.charAt(index) == '-' || seq.charAt(index) == '+')) {
+            negative = seq.charAt(index) == '-';
+            index++;
+        }
+        long mantissa = 0;
+        int significant = 0;
+        int exponent = 0;
+        int digits = 0;
+        for (; index < to; index++) {
+            int digit = seq.charAt(index) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            if (mantissa != 0 || digit != 0) {
+                significant++;
+            }
+            mantissa = mantissa * 10 + digit;
+            digits++;
+        }
+        if (index < to && seq.charAt(index) == '.') {
+            for (index++; index < to; index++) {
+                int digit = seq.charAt(index) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                if (mantissa != 0 || digit != 0) {
+                    significant++;
+                }
+                mantissa = mantissa * 10 + digit;
+                exponent--;
+                digits++;
+            }
+        }
+        if (digits == 0 || significant > 18) {
+            return Double.NaN;
+        }
+        if (index < to && (seq.charAt(index) == 'e' || seq.charAt(index) == 'E')) {
+            index++;
+            boolean negativeExponent = false;
+            if (index < to && (seq.charAt(index) == '-' || seq.charAt(index) == '+')) {
+                negativeExponent = seq.charAt(index) == '-';
+                index++;
+            }
+            int explicit = 0;
+            int start = index;
+            for (; index < to && index - start < 5; index++) {
+                int digit = seq.charAt(index) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                explicit = explicit * 10 + digit;
+            }
+            if (index == start) {
+                return Double.NaN;
+            }
+            exponent += negativeExponent ? -explicit : explicit;
+        }
+        if (index != to) {
+            return Double.NaN;
+        }
+        double value;
+        if (mantissa == 0) {
+            value = 0.0;
+        } else if (mantissa > (1L << 53) || exponent < -22 || exponent > 22) {
+            return Double.NaN;
+        } else if (exponent < 0) {
+            value = (double) mantissa / POWERS_OF_TEN[-exponent];
+        } else {
+            value = (double) mantissa * POWERS_OF_TEN[exponent];
+        }
+        return negative ? -value : value;
+    }
+
+    private static double slowParseDouble(String text, double defaultValue) {
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException ex) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * A read-only view of single byte (ISO-8859-1) characters, letting the
+     * {@link CharSequence} parser run over a byte array without decoding it.
+     */
+    private static final class ByteChars implements CharSequence {
+
+        private final byte[] bytes;
+
+        ByteChars(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int length() {
+            return bytes.length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes[index] & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Longs.checkRange(start, end, bytes.length);
+            return new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+        }
+
+        @Override
+        public String toString() {
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+    }
+
     /**
      * Determine whether the given {@code value} String indicates a hex number,
      * i.e. needs to be passed into {@code Integer.decode} instead of
@@ -1205,11 +1205,8 @@ public final class Objects {
         if (array.length == 0) {
             return EMPTY_ARRAY;
         }
-        StringJoiner stringJoiner = new StringJoiner(ARRAY_ELEMENT_SEPARATOR, ARRAY_START, ARRAY_END);
-        for (int i : array) {
-            stringJoiner.add(String.valueOf(i));
-        }
-        return stringJoiner.toString();
+        StringBuilder builder = new StringBuilder(array.length * 8 + 2).append(ARRAY_START);
+        return Ints.appendTo(builder, ARRAY_ELEMENT_SEPARATOR, array).append(ARRAY_END).toString();
     }
 
     /**
@@ -1225,11 +1222,8 @@ public final class Objects {
         if (array.length == 0) {
             return EMPTY_ARRAY;
         }
-        StringJoiner stringJoiner = new StringJoiner(ARRAY_ELEMENT_SEPARATOR, ARRAY_START, ARRAY_END);
-        for (long l : array) {
-            stringJoiner.add(String.valueOf(l));
-        }
-        return stringJoiner.toString();
+        StringBuilder builder = new StringBuilder(array.length * 8 + 2).append(ARRAY_START);
+        return Longs.appendTo(builder, ARRAY_ELEMENT_SEPARATOR, array).append(ARRAY_END).toString();
     }
 
     /**
@@ -0,0 +1,291 @@
+package tomkit.core.lang;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * 正则表达式缓存工具类
+ * <p>
+ * 缓存编译后的{@link Pattern}，避免{@link String#replaceAll(String, String)}等方法每次调用都重新编译。
+ * 命中时无锁，只读取缓存项，最多写入一次访问标记；超出容量时按时钟（second-chance）算法淘汰，
+ * 上次扫描之后未被访问的正则优先淘汰，淘汰顺序是近似的最久未使用，而不是严格的LRU。
+ * 默认容量为256，可通过系统属性{@value #MAX_SIZE_PROPERTY}或{@link #setMaxSize(int)}配置
+ *
+ * <pre class="code">
+ *     Patterns.compile("\\d+").matcher("A1B2").replaceAll("-") = "A-B-"
+ *     Patterns.stats().hitRate()
+ * </pre>
+ *
+ * @author yh
+ * @since 2026/10/18
+ */
+public final class Patterns {
+
+    /**
+     * 配置缓存容量的系统属性
+     */
+    public static final String MAX_SIZE_PROPERTY = "tomkit.pattern.cache.maxSize";
+
+    /**
+     * 默认缓存容量
+     */
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private static final Map<Object, Entry> CACHE = new ConcurrentHashMap<>();
+
+    private static final LongAdder HITS = new LongAdder();
+
+    private static final LongAdder MISSES = new LongAdder();
+
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    private static final ReentrantLock EVICTION_LOCK = new ReentrantLock();
+
+    /**
+     * 时钟指针，只在持有{@link #EVICTION_LOCK}时访问
+     */
+    private static Iterator<Map.Entry<Object, Entry>> hand;
+
+    private static volatile int maxSize = Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE);
+
+    private Patterns() {
+    }
+
+    /**
+     * 获取编译后的正则表达式，优先从缓存获取
+     *
+     * @param regex 正则表达式
+     * @return 编译后的正则表达式
+     * @throws java.util.regex.PatternSyntaxException 如果正则语法错误
+     */
+    public static Pattern compile(final String regex) {
+        return compile(regex, 0);
+    }
+
+    /**
+     * 获取编译后的正则表达式，优先从缓存获取
+     *
+     * @param regex 正则表达式
+     * @param flags 匹配标志，参考{@link Pattern#compile(String, int)}
+     * @return 编译后的正则表达式
+     * @throws java.util.regex.PatternSyntaxException 如果正则语法错误
+     */
+    public static Pattern compile(final String regex, final int flags) {
+        Assert.notNull(regex, "regex cannot be null");
+
+        final Object key = flags == 0 ? regex : new FlaggedKey(regex, flags);
+        final Entry entry = CACHE.get(key);
+        if (entry != null) {
+            HITS.increment();
+            if (!entry.referenced) {
+                // 已标记时不再写入，热点正则命中时只读
+                entry.referenced = true;
+            }
+            return entry.pattern;
+        }
+        MISSES.increment();
+        final Pattern pattern = Pattern.compile(regex, flags);
+        if (maxSize > 0) {
+            CACHE.put(key, new Entry(pattern));
+            // 其它线程正在淘汰时不等待，由其继续淘汰到容量以内
+            if (CACHE.size() > maxSize && EVICTION_LOCK.tryLock()) {
+                try {
+                    evictLocked();
+                } finally {
+                    EVICTION_LOCK.unlock();
+                }
+            }
+        }
+        return pattern;
+    }
+
+    /**
+     * 设置缓存容量，小于当前缓存数量时立即淘汰；为0时不缓存
+     *
+     * @param size 缓存容量
+     */
+    public static void setMaxSize(final int size) {
+        Assert.isTrue(size >= 0, "size has to be greater than or equal to 0");
+
+        maxSize = size;
+        EVICTION_LOCK.lock();
+        try {
+            evictLocked();
+        } finally {
+            EVICTION_LOCK.unlock();
+        }
+    }
+
+    /**
+     * 获取缓存容量
+     *
+     * @return 缓存容量
+     */
+    public static int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 清空缓存并重置统计
+     */
+    public static void clear() {
+        CACHE.clear();
+        HITS.reset();
+        MISSES.reset();
+        EVICTIONS.reset();
+    }
+
+    /**
+     * 获取缓存统计快照
+     *
+     * @return 缓存统计
+     */
+    public static Stats stats() {
+        return new Stats(HITS.sum(), MISSES.sum(), EVICTIONS.sum(), CACHE.size(), maxSize);
+    }
+
+    /**
+     * 按时钟算法淘汰，直到缓存数量不超过容量：指针依次经过各缓存项，清除已设置的访问标记，
+     * 淘汰第一个未被标记的缓存项。每次淘汰平均只需检查少量缓存项，不需要扫描全部缓存
+     */
+    private static void evictLocked() {
+        while (CACHE.size() > maxSize) {
+            if (hand == null || !hand.hasNext()) {
+                hand = CACHE.entrySet().iterator();
+                if (!hand.hasNext()) {
+                    return;
+                }
+            }
+            final Map.Entry<Object, Entry> e = hand.next();
+            final Entry entry = e.getValue();
+            if (entry.referenced) {
+                entry.referenced = false;
+            } else if (CACHE.remove(e.getKey(), entry)) {
+                EVICTIONS.increment();
+            }
+        }
+    }
+
+    /**
+     * 缓存项
+     */
+    private static final class Entry {
+
+        private final Pattern pattern;
+
+        /**
+         * 上次时钟指针经过之后是否被访问过，并发读写时允许丢失更新
+         */
+        private boolean referenced;
+
+        private Entry(final Pattern pattern) {
+            this.pattern = pattern;
+        }
+    }
+
+    /**
+     * 带匹配标志的缓存键
+     */
+    private static final class FlaggedKey {
+
+        private final String regex;
+        private final int flags;
+
+        private FlaggedKey(final String regex, final int flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FlaggedKey)) {
+                return false;
+            }
+            final FlaggedKey that = (FlaggedKey) o;
+            return flags == that.flags && regex.equals(that.regex);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * regex.hashCode() + flags;
+        }
+    }
+
+    /**
+     * 缓存统计
+     */
+    public static final class Stats {
+
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final int size;
+        private final int maxSize;
+
+        private Stats(final long hitCount, final long missCount, final long evictionCount, final int size,
+                      final int maxSize) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.size = size;
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * @return 命中次数
+         */
+        public long hitCount() {
+            return hitCount;
+        }
+
+        /**
+         * @return 未命中次数
+         */
+        public long missCount() {
+            return missCount;
+        }
+
+        /**
+         * @return 淘汰次数
+         */
+        public long evictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * @return 当前缓存数量
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @return 缓存容量
+         */
+        public int maxSize() {
+            return maxSize;
+        }
+
+        /**
+         * @return 命中率，没有请求时为1.0
+         */
+        public double hitRate() {
+            final long total = hitCount + missCount;
+            return total == 0 ? 1.0 : (double) hitCount / total;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount
+                    + ", size=" + size + ", maxSize=" + maxSize + '}';
+        }
+    }
+
+}
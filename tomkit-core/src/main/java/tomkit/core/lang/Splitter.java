@@ -0,0 +1,470 @@
+package tomkit.core.lang;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Extracts non-overlapping substrings from an input string, typically by recognizing appearances of
+ * a separator sequence. This is the inverse of {@link Joiner}.
+ *
+ * <p>Splitting is lazy: {@link #split(CharSequence)} returns an {@code Iterable} whose elements are
+ * computed while iterating. The elements are lightweight views over the input and copy no
+ * characters; call {@link CharSequence#toString()} to obtain a {@code String}. Unlike {@link
+ * String#split(String)}, no regular expression is compiled for multi-character separators and no
+ * array is built.
+ *
+ * <pre>{@code
+ * Splitter.on(',').trimResults().omitEmptyStrings().split("foo, ,bar,, qux")  // ["foo", "bar", "qux"]
+ * Splitter.on('&').withKeyValueSeparator('=').split("a=1&b=2")              // {a=1, b=2}
+ * }</pre>
+ *
+ * <p>Splitter instances are immutable and thread-safe; configuration methods return a new
+ * splitter.
+ *
+ * @author yh
+ * @since 2026/10/18
+ */
+public final class Splitter {
+
+    private final Strategy strategy;
+    private final boolean omitEmptyStrings;
+    private final boolean trimResults;
+    private final int limit;
+
+    private Splitter(Strategy strategy) {
+        this(strategy, false, false, Integer.MAX_VALUE);
+    }
+
+    private Splitter(Strategy strategy, boolean omitEmptyStrings, boolean trimResults, int limit) {
+        this.strategy = strategy;
+        this.omitEmptyStrings = omitEmptyStrings;
+        this.trimResults = trimResults;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns a splitter that uses the given single-character separator. For example, {@code
+     * Splitter.on(',').split("foo,,bar")} returns an iterable containing {@code ["foo", "", "bar"]}.
+     */
+    public static Splitter on(final char separator) {
+        return new Splitter((splitter, toSplit) -> new SplittingIterator(splitter, toSplit) {
+            @Override
+            int separatorStart(int start) {
+                if (toSplit instanceof String) {
+                    return ((String) toSplit).indexOf(separator, start);
+                }
+                for (int i = start, length = toSplit.length(); i < length; i++) {
+                    if (toSplit.charAt(i) == separator) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+
+            @Override
+            int separatorEnd(int separatorPosition) {
+                return separatorPosition + 1;
+            }
+        });
+    }
+
+    /**
+     * Returns a splitter that uses the given fixed string as a separator. For example, {@code
+     * Splitter.on(", ").split("foo, bar,baz")} returns an iterable containing {@code ["foo",
+     * "bar,baz"]}.
+     *
+     * @throws IllegalArgumentException if {@code separator} is empty
+     */
+    public static Splitter on(final String separator) {
+        Assert.notNull(separator, "separator cannot be null");
+        Assert.isTrue(separator.length() != 0, "The separator may not be the empty string.");
+        if (separator.length() == 1) {
+            return on(separator.charAt(0));
+        }
+        return new Splitter((splitter, toSplit) -> new SplittingIterator(splitter, toSplit) {
+            @Override
+            int separatorStart(int start) {
+                if (toSplit instanceof String) {
+                    return ((String) toSplit).indexOf(separator, start);
+                }
+                int separatorLength = separator.length();
+                positions:
+                for (int p = start, last = toSplit.length() - separatorLength; p <= last; p++) {
+                    for (int i = 0; i < separatorLength; i++) {
+                        if (toSplit.charAt(i + p) != separator.charAt(i)) {
+                            continue positions;
+                        }
+                    }
+                    return p;
+                }
+                return -1;
+            }
+
+            @Override
+            int separatorEnd(int separatorPosition) {
+                return separatorPosition + separator.length();
+            }
+        });
+    }
+
+    /**
+     * Returns a splitter that considers any subsequence matching {@code separatorPattern} to be a
+     * separator. For example, {@code Splitter.on(Pattern.compile("\r?\n")).split(entireFile)} splits
+     * a string into lines whether it uses DOS-style or UNIX-style line terminators.
+     *
+     * @throws IllegalArgumentException if {@code separatorPattern} matches the empty string
+     */
+    public static Splitter on(final Pattern separatorPattern) {
+        Assert.notNull(separatorPattern, "separatorPattern cannot be null");
+        Assert.isTrue(!separatorPattern.matcher("").matches(),
+                "The pattern may not match the empty string: " + separatorPattern);
+        return new Splitter((splitter, toSplit) -> {
+            final Matcher matcher = separatorPattern.matcher(toSplit);
+            return new SplittingIterator(splitter, toSplit) {
+                @Override
+                int separatorStart(int start) {
+                    return matcher.find(start) ? matcher.start() : -1;
+                }
+
+                @Override
+                int separatorEnd(int separatorPosition) {
+                    return matcher.end();
+                }
+            };
+        });
+    }
+
+    /**
+     * Returns a splitter that considers any subsequence matching the given regular expression to be
+     * a separator. The pattern is compiled through {@link Patterns#compile(String)}, so repeated
+     * calls with the same expression share one compiled pattern.
+     *
+     * @throws java.util.regex.PatternSyntaxException if {@code separatorPattern} is a malformed
+     *                                                expression
+     * @throws IllegalArgumentException               if {@code separatorPattern} matches the empty
+     *                                                string
+     */
+    public static Splitter onPattern(String separatorPattern) {
+        return on(Patterns.compile(separatorPattern));
+    }
+
+    /**
+     * Returns a splitter that behaves equivalently to {@code this} splitter, but automatically omits
+     * empty strings from the results. For example, {@code
+     * Splitter.on(',').omitEmptyStrings().split(",a,,,b,c,,")} returns an iterable containing only
+     * {@code ["a", "b", "c"]}.
+     *
+     * <p>If either {@code trimResults} option is also specified when creating a splitter, that
+     * splitter always trims results first before checking for emptiness. So, for example, {@code
+     * Splitter.on(':').omitEmptyStrings().trimResults().split(": : : ")} returns an empty iterable.
+     */
+    public Splitter omitEmptyStrings() {
+        return new Splitter(strategy, true, trimResults, limit);
+    }
+
+    /**
+     * Returns a splitter that behaves equivalently to {@code this} splitter, but automatically
+     * removes leading and trailing {@linkplain Character#isWhitespace(char) whitespace} from each
+     * returned substring. For example, {@code Splitter.on(',').trimResults().split(" a, b ,c ")}
+     * returns an iterable containing {@code ["a", "b", "c"]}.
+     */
+    public Splitter trimResults() {
+        return new Splitter(strategy, omitEmptyStrings, true, limit);
+    }
+
+    /**
+     * Returns a splitter that behaves equivalently to {@code this} splitter but stops splitting after
+     * it reaches the limit. The limit defines the maximum number of items returned by the iterator,
+     * the last item contains the remainder of the input. For example, {@code
+     * Splitter.on(',').limit(3).split("a,b,c,d")} returns an iterable containing {@code ["a", "b",
+     * "c,d"]}.
+     *
+     * @param maxItems the maximum number of items returned
+     * @throws IllegalArgumentException if {@code maxItems} is not positive
+     */
+    public Splitter limit(int maxItems) {
+        Assert.isTrue(maxItems > 0, "must be greater than zero: " + maxItems);
+        return new Splitter(strategy, omitEmptyStrings, trimResults, maxItems);
+    }
+
+    /**
+     * Splits {@code sequence} into string components and makes them available through an {@link
+     * Iterator}, which may be lazily evaluated. The components are views over {@code sequence},
+     * which therefore must not be modified while they are in use.
+     *
+     * @param sequence the sequence of characters to split
+     * @return an iteration over the segments split from the parameter
+     */
+    public Iterable<CharSequence> split(final CharSequence sequence) {
+        Assert.notNull(sequence, "sequence cannot be null");
+        return () -> strategy.iterator(this, sequence);
+    }
+
+    /**
+     * Splits {@code sequence} into string components and returns them as an immutable list.
+     *
+     * @param sequence the sequence of characters to split
+     * @return an immutable list of the segments split from the parameter
+     */
+    public List<String> splitToList(CharSequence sequence) {
+        Assert.notNull(sequence, "sequence cannot be null");
+        Iterator<CharSequence> iterator = strategy.iterator(this, sequence);
+        List<String> result = new ArrayList<>();
+        while (iterator.hasNext()) {
+            result.add(iterator.next().toString());
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Splits {@code sequence} into string components and makes them available through a sequential
+     * {@link Stream}, which may be lazily evaluated.
+     *
+     * @param sequence the sequence of characters to split
+     * @return a stream over the segments split from the parameter
+     */
+    public Stream<CharSequence> splitToStream(CharSequence sequence) {
+        Assert.notNull(sequence, "sequence cannot be null");
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(strategy.iterator(this, sequence),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Returns a {@code MapSplitter} which splits entries based on this splitter, and splits entries
+     * into keys and values using the specified separator.
+     */
+    public MapSplitter withKeyValueSeparator(char separator) {
+        return withKeyValueSeparator(on(separator));
+    }
+
+    /**
+     * Returns a {@code MapSplitter} which splits entries based on this splitter, and splits entries
+     * into keys and values using the specified separator.
+     */
+    public MapSplitter withKeyValueSeparator(String separator) {
+        return withKeyValueSeparator(on(separator));
+    }
+
+    /**
+     * Returns a {@code MapSplitter} which splits entries based on this splitter, and splits entries
+     * into keys and values using the specified key-value splitter.
+     *
+     * <p>Note: Any configuration option configured on this splitter, such as {@link #trimResults},
+     * does not change the behavior of the {@code keyValueSplitter}.
+     */
+    public MapSplitter withKeyValueSeparator(Splitter keyValueSplitter) {
+        return new MapSplitter(this, keyValueSplitter);
+    }
+
+    /**
+     * An object that splits strings into maps as {@code Splitter} splits iterables and lists. Like
+     * {@code Splitter}, it is thread-safe and immutable. This is the inverse of {@link
+     * Joiner.MapJoiner}.
+     */
+    public static final class MapSplitter {
+        private static final String INVALID_ENTRY_MESSAGE = "Chunk [%s] is not a valid entry";
+        private final Splitter outerSplitter;
+        private final Splitter entrySplitter;
+
+        private MapSplitter(Splitter outerSplitter, Splitter entrySplitter) {
+            this.outerSplitter = outerSplitter; // only "this" is passed
+            this.entrySplitter = Objects.checkNotNull(entrySplitter);
+        }
+
+        /**
+         * Splits {@code sequence} into substrings, splits each substring into an entry, and returns
+         * an unmodifiable map with each of the entries. For example, {@code
+         * Splitter.on(';').trimResults().withKeyValueSeparator("=>").split("a=>b ; c=>b")} will return
+         * a mapping from {@code "a"} to {@code "b"} and {@code "c"} to {@code "b"}.
+         *
+         * <p>The returned map preserves the order of the entries from {@code sequence}.
+         *
+         * @throws IllegalArgumentException if the specified sequence does not split into valid map
+         *                                  entries, or if there are duplicate keys
+         */
+        public Map<String, String> split(CharSequence sequence) {
+            Map<String, String> map = new LinkedHashMap<>();
+            for (CharSequence entry : outerSplitter.split(sequence)) {
+                Iterator<CharSequence> entryFields = entrySplitter.strategy.iterator(entrySplitter, entry);
+
+                Assert.isTrue(entryFields.hasNext(), String.format(INVALID_ENTRY_MESSAGE, entry));
+                String key = entryFields.next().toString();
+                Assert.isTrue(!map.containsKey(key), "Duplicate key [" + key + "] found.");
+
+                Assert.isTrue(entryFields.hasNext(), String.format(INVALID_ENTRY_MESSAGE, entry));
+                String value = entryFields.next().toString();
+                map.put(key, value);
+
+                Assert.isTrue(!entryFields.hasNext(), String.format(INVALID_ENTRY_MESSAGE, entry));
+            }
+            return Collections.unmodifiableMap(map);
+        }
+    }
+
+    private interface Strategy {
+        Iterator<CharSequence> iterator(Splitter splitter, CharSequence toSplit);
+    }
+
+    private abstract static class SplittingIterator implements Iterator<CharSequence> {
+        final CharSequence toSplit;
+        final boolean trimResults;
+        final boolean omitEmptyStrings;
+
+        /**
+         * The current offset into the input, or -1 when the input is exhausted.
+         */
+        int offset = 0;
+        int limit;
+
+        private CharSequence next;
+
+        SplittingIterator(Splitter splitter, CharSequence toSplit) {
+            this.trimResults = splitter.trimResults;
+            this.omitEmptyStrings = splitter.omitEmptyStrings;
+            this.limit = splitter.limit;
+            this.toSplit = toSplit;
+        }
+
+        /**
+         * Returns the first index in {@code toSplit} at or after {@code start} that contains the
+         * separator, or -1 if there is none.
+         */
+        abstract int separatorStart(int start);
+
+        /**
+         * Returns the first index in {@code toSplit} after {@code separatorPosition} that does not
+         * contain a separator. This method is only invoked after a call to {@code separatorStart}.
+         */
+        abstract int separatorEnd(int separatorPosition);
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = computeNext();
+            }
+            return next != null;
+        }
+
+        @Override
+        public CharSequence next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            CharSequence result = next;
+            next = null;
+            return result;
+        }
+
+        private CharSequence computeNext() {
+            int nextStart = offset;
+            while (offset != -1) {
+                int start = nextStart;
+                int end;
+
+                int separatorPosition = separatorStart(offset);
+                if (separatorPosition == -1) {
+                    end = toSplit.length();
+                    offset = -1;
+                } else {
+                    end = separatorPosition;
+                    offset = separatorEnd(separatorPosition);
+                }
+                if (offset == nextStart) {
+                    // The separator matched the empty string right here, skip one character to
+                    // guarantee progress
+                    offset++;
+                    if (offset > toSplit.length()) {
+                        offset = -1;
+                    }
+                    continue;
+                }
+
+                if (trimResults) {
+                    while (start < end && Characters.isWhitespace(toSplit.charAt(start))) {
+                        start++;
+                    }
+                    while (end > start && Characters.isWhitespace(toSplit.charAt(end - 1))) {
+                        end--;
+                    }
+                }
+
+                if (omitEmptyStrings && start == end) {
+                    // Don't include the (unused) separator in next split string.
+                    nextStart = offset;
+                    continue;
+                }
+
+                if (limit == 1) {
+                    // The last item contains the remainder of the input
+                    end = toSplit.length();
+                    offset = -1;
+                    if (trimResults) {
+                        while (end > start && Characters.isWhitespace(toSplit.charAt(end - 1))) {
+                            end--;
+                        }
+                    }
+                } else {
+                    limit--;
+                }
+
+                return new Slice(toSplit, start, end);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A view of a range of characters of the input. Copies nothing until {@link #toString()}.
+     */
+    private static final class Slice implements CharSequence {
+        private final CharSequence source;
+        private final int start;
+        private final int end;
+
+        Slice(CharSequence source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= end - start) {
+                throw new IndexOutOfBoundsException("index " + index + ", length " + (end - start));
+            }
+            return source.charAt(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            if (from < 0 || from > to || to > end - start) {
+                throw new IndexOutOfBoundsException("start " + from + ", end " + to + ", length " + (end - start));
+            }
+            return new Slice(source, start + from, start + to);
+        }
+
+        @Override
+        public String toString() {
+            if (source instanceof String) {
+                return ((String) source).substring(start, end);
+            }
+            return source.subSequence(start, end).toString();
+        }
+    }
+}
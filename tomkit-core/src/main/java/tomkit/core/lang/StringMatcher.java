@@ -0,0 +1,499 @@
+package tomkit.core.lang;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 多关键字匹配器（Aho-Corasick自动机）
+ * <p>
+ * 由一组关键字预先编译，之后对任意文本只需扫描一遍即可完成所有关键字的查找、计数和替换，
+ * 耗时与关键字数量无关。实例不可变，可在多线程间共享
+ * <p>
+ * 查找、计数和替换的结果为互不重叠的匹配：优先选择起始位置最靠前的，起始位置相同时选择最长的
+ *
+ * <pre class="code">
+ *     StringMatcher matcher = StringMatcher.of("he", "she", "hers");
+ *     matcher.containsAny("ushers")          = true
+ *     matcher.countAll("ushers")             = 1      // "she"
+ *     matcher.replaceAll("ushers", map)      = "u***rs"   // map: she -&gt; ***
+ *     StringMatcher.ofIgnoreCase("error").containsAny("ERROR: x") = true
+ * </pre>
+ *
+ * @author yh
+ * @since 2026/10/18
+ */
+public final class StringMatcher {
+
+    private static final int ROOT = 0;
+
+    private static final long EMPTY_KEY = -1L;
+
+    private final String[] keywords;
+    private final boolean ignoreCase;
+
+    /**
+     * 失败指针
+     */
+    private final int[] fail;
+
+    /**
+     * 节点深度，即节点表示的前缀长度
+     */
+    private final int[] depth;
+
+    /**
+     * 以节点结尾的关键字下标，没有时为-1
+     */
+    private final int[] output;
+
+    /**
+     * 沿失败指针找到的最近一个有输出的节点，没有时为-1
+     */
+    private final int[] dictLink;
+
+    /**
+     * 转移表，开放寻址，键为{@code node << 16 | char}
+     */
+    private final long[] edgeKeys;
+    private final int[] edgeValues;
+
+    private StringMatcher(final Collection<? extends CharSequence> keywords, final boolean ignoreCase) {
+        Assert.notNull(keywords, "keywords cannot be null");
+
+        this.ignoreCase = ignoreCase;
+        // 在构建器中完成全部修改，最后一次性赋给final字段，保证发布到其它线程时可见
+        final Builder builder = new Builder(keywords.size() * 8 + 1);
+        final List<String> words = new ArrayList<>(keywords.size());
+        final List<int[]> children = new ArrayList<>();
+        for (CharSequence keyword : keywords) {
+            Assert.isTrue(keyword != null && keyword.length() > 0, "keywords cannot contain null or empty elements");
+            int node = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                final char c = normalize(keyword.charAt(i));
+                int next = child(builder.edgeKeys, builder.edgeValues, node, c);
+                if (next < 0) {
+                    next = builder.newNode(builder.depth[node] + 1);
+                    builder.putEdge(node, c, next);
+                }
+                node = next;
+            }
+            if (builder.output[node] < 0) {
+                builder.output[node] = words.size();
+                words.add(keyword.toString());
+            }
+        }
+        builder.buildFailureLinks();
+        this.keywords = words.toArray(new String[0]);
+        this.fail = builder.fail;
+        this.depth = builder.depth;
+        this.output = builder.output;
+        this.dictLink = builder.dictLink;
+        this.edgeKeys = builder.edgeKeys;
+        this.edgeValues = builder.edgeValues;
+    }
+
+    /**
+     * 编译关键字，区分大小写
+     *
+     * @param keywords 关键字，不能为空字符串
+     * @return 匹配器
+     */
+    public static StringMatcher of(final String... keywords) {
+        return new StringMatcher(Arrays.asList(keywords), false);
+    }
+
+    /**
+     * 编译关键字，区分大小写
+     *
+     * @param keywords 关键字，不能为空字符串
+     * @return 匹配器
+     */
+    public static StringMatcher of(final Collection<? extends CharSequence> keywords) {
+        return new StringMatcher(keywords, false);
+    }
+
+    /**
+     * 编译关键字，忽略ASCII字母大小写
+     *
+     * @param keywords 关键字，不能为空字符串
+     * @return 匹配器
+     */
+    public static StringMatcher ofIgnoreCase(final String... keywords) {
+        return new StringMatcher(Arrays.asList(keywords), true);
+    }
+
+    /**
+     * 编译关键字，忽略ASCII字母大小写
+     *
+     * @param keywords 关键字，不能为空字符串
+     * @return 匹配器
+     */
+    public static StringMatcher ofIgnoreCase(final Collection<? extends CharSequence> keywords) {
+        return new StringMatcher(keywords, true);
+    }
+
+    /**
+     * 获取关键字，重复的关键字只保留第一个
+     *
+     * @return 关键字列表
+     */
+    public List<String> keywords() {
+        return Collections.unmodifiableList(Arrays.asList(keywords));
+    }
+
+    /**
+     * 是否忽略ASCII字母大小写
+     *
+     * @return 是否忽略大小写
+     */
+    public boolean isIgnoreCase() {
+        return ignoreCase;
+    }
+
+    /**
+     * 文本是否包含任意一个关键字，找到第一个匹配后立即返回
+     *
+     * @param text 文本
+     * @return 是否包含，text为 {@code null} 时返回 {@code false}
+     */
+    public boolean containsAny(final CharSequence text) {
+        if (text == null) {
+            return false;
+        }
+        int state = ROOT;
+        for (int i = 0, len = text.length(); i < len; i++) {
+            state = next(state, normalize(text.charAt(i)));
+            if (output[state] >= 0 || dictLink[state] >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 查找文本中所有互不重叠的关键字
+     *
+     * @param text 文本
+     * @return 按位置排序的匹配结果，text为 {@code null} 时返回空列表
+     */
+    public List<Match> findAll(final CharSequence text) {
+        if (text == null) {
+            return Collections.emptyList();
+        }
+        final List<Match> matches = new ArrayList<>();
+        scan(text, (start, end, keyword) -> matches.add(new Match(start, end, keywords[keyword])));
+        return matches;
+    }
+
+    /**
+     * 统计文本中互不重叠的关键字数量
+     *
+     * @param text 文本
+     * @return 匹配数量，text为 {@code null} 时返回0
+     */
+    public int countAll(final CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        final int[] count = new int[1];
+        scan(text, (start, end, keyword) -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * 替换文本中的关键字，没有对应替换值的关键字保持原样
+     *
+     * @param text         文本
+     * @param replacements 关键字到替换值的映射，键为编译时的关键字
+     * @return 替换后的字符串，text为 {@code null} 时返回 {@code null}
+     */
+    public String replaceAll(final CharSequence text, final Map<String, ? extends CharSequence> replacements) {
+        Assert.notNull(replacements, "replacements cannot be null");
+
+        return replaceAll(text, replacements::get);
+    }
+
+    /**
+     * 替换文本中的关键字，替换函数返回 {@code null} 时保持原样
+     *
+     * @param text     文本
+     * @param replacer 根据编译时的关键字计算替换值
+     * @return 替换后的字符串，text为 {@code null} 时返回 {@code null}
+     */
+    public String replaceAll(final CharSequence text, final Function<String, ? extends CharSequence> replacer) {
+        Assert.notNull(replacer, "replacer cannot be null");
+        if (text == null) {
+            return null;
+        }
+        final StringBuilder builder = new StringBuilder(text.length());
+        final int[] copied = new int[1];
+        scan(text, (start, end, keyword) -> {
+            final CharSequence replacement = replacer.apply(keywords[keyword]);
+            if (replacement != null) {
+                builder.append(text, copied[0], start).append(replacement);
+                copied[0] = end;
+            }
+        });
+        if (copied[0] == 0 && builder.length() == 0) {
+            return text.toString();
+        }
+        return builder.append(text, copied[0], text.length()).toString();
+    }
+
+    /**
+     * 扫描文本，按顺序回调互不重叠的匹配
+     */
+    private void scan(final CharSequence text, final MatchHandler handler) {
+        // 尚未确定的候选匹配
+        int[] starts = new int[8];
+        int[] ends = new int[8];
+        int[] words = new int[8];
+        int count = 0;
+        int lastEnd = 0;
+        int state = ROOT;
+        for (int i = 0, len = text.length(); i <= len; i++) {
+            final int frontier;
+            if (i < len) {
+                state = next(state, normalize(text.charAt(i)));
+                for (int node = output[state] >= 0 ? state : dictLink[state]; node >= 0; node = dictLink[node]) {
+                    final int start = i + 1 - depth[node];
+                    if (start >= lastEnd) {
+                        if (count == starts.length) {
+                            starts = Arrays.copyOf(starts, count << 1);
+                            ends = Arrays.copyOf(ends, count << 1);
+                            words = Arrays.copyOf(words, count << 1);
+                        }
+                        starts[count] = start;
+                        ends[count] = i + 1;
+                        words[count] = output[node];
+                        count++;
+                    }
+                }
+                // 之后的匹配不会早于当前状态所表示的前缀起点
+                frontier = i + 1 - depth[state];
+            } else {
+                frontier = Integer.MAX_VALUE;
+            }
+            while (count > 0) {
+                int best = -1;
+                for (int j = 0; j < count; j++) {
+                    if (best < 0 || starts[j] < starts[best] || (starts[j] == starts[best] && ends[j] > ends[best])) {
+                        best = j;
+                    }
+                }
+                if (starts[best] >= frontier) {
+                    break;
+                }
+                handler.onMatch(starts[best], ends[best], words[best]);
+                lastEnd = ends[best];
+                int kept = 0;
+                for (int j = 0; j < count; j++) {
+                    if (starts[j] >= lastEnd) {
+                        starts[kept] = starts[j];
+                        ends[kept] = ends[j];
+                        words[kept] = words[j];
+                        kept++;
+                    }
+                }
+                count = kept;
+            }
+        }
+    }
+
+    private char normalize(final char c) {
+        return ignoreCase ? Ascii.toLowerCase(c) : c;
+    }
+
+    private int next(int state, final char c) {
+        int next;
+        while ((next = child(edgeKeys, edgeValues, state, c)) < 0 && state != ROOT) {
+            state = fail[state];
+        }
+        return next < 0 ? ROOT : next;
+    }
+
+    private static int child(final long[] edgeKeys, final int[] edgeValues, final int node, final char c) {
+        final long key = ((long) node << 16) | c;
+        final int mask = edgeKeys.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            final long k = edgeKeys[slot];
+            if (k == key) {
+                return edgeValues[slot];
+            }
+            if (k == EMPTY_KEY) {
+                return -1;
+            }
+        }
+    }
+
+    private static int hash(final long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * 构建期间的可变状态：字典树、转移表和失败指针
+     */
+    private static final class Builder {
+
+        private int[] fail;
+        private int[] depth;
+        private int[] output;
+        private int[] dictLink;
+        private long[] edgeKeys;
+        private int[] edgeValues;
+        private int edgeCount;
+        private int nodeCount;
+
+        private Builder(final int capacity) {
+            this.fail = new int[capacity];
+            this.depth = new int[capacity];
+            this.output = new int[capacity];
+            this.dictLink = new int[capacity];
+            this.edgeKeys = new long[Integer.highestOneBit(capacity) << 2];
+            this.edgeValues = new int[edgeKeys.length];
+            Arrays.fill(edgeKeys, EMPTY_KEY);
+            Arrays.fill(output, -1);
+            this.nodeCount = 1;
+        }
+
+        private void putEdge(final int node, final char c, final int child) {
+            if ((edgeCount + 1) << 1 > edgeKeys.length) {
+                final long[] oldKeys = edgeKeys;
+                final int[] oldValues = edgeValues;
+                edgeKeys = new long[oldKeys.length << 1];
+                edgeValues = new int[edgeKeys.length];
+                Arrays.fill(edgeKeys, EMPTY_KEY);
+                for (int i = 0; i < oldKeys.length; i++) {
+                    if (oldKeys[i] != EMPTY_KEY) {
+                        insertEdge(oldKeys[i], oldValues[i]);
+                    }
+                }
+            }
+            insertEdge(((long) node << 16) | c, child);
+            edgeCount++;
+        }
+
+        private void insertEdge(final long key, final int value) {
+            final int mask = edgeKeys.length - 1;
+            int slot = hash(key) & mask;
+            while (edgeKeys[slot] != EMPTY_KEY) {
+                slot = (slot + 1) & mask;
+            }
+            edgeKeys[slot] = key;
+            edgeValues[slot] = value;
+        }
+
+        private int newNode(final int nodeDepth) {
+            if (nodeCount == depth.length) {
+                final int capacity = nodeCount << 1;
+                fail = Arrays.copyOf(fail, capacity);
+                depth = Arrays.copyOf(depth, capacity);
+                dictLink = Arrays.copyOf(dictLink, capacity);
+                output = Arrays.copyOf(output, capacity);
+                Arrays.fill(output, nodeCount, capacity, -1);
+            }
+            depth[nodeCount] = nodeDepth;
+            return nodeCount++;
+        }
+
+        /**
+         * 按深度广度优先计算失败指针和输出链接
+         */
+        private void buildFailureLinks() {
+            // 按深度排序节点即为广度优先顺序；同时收集每条边
+            final int[] parents = new int[nodeCount];
+            final char[] chars = new char[nodeCount];
+            for (int i = 0; i < edgeKeys.length; i++) {
+                if (edgeKeys[i] != EMPTY_KEY) {
+                    final int child = edgeValues[i];
+                    parents[child] = (int) (edgeKeys[i] >>> 16);
+                    chars[child] = (char) edgeKeys[i];
+                }
+            }
+            final Integer[] order = new Integer[nodeCount - 1];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i + 1;
+            }
+            Arrays.sort(order, (a, b) -> Integer.compare(depth[a], depth[b]));
+
+            dictLink[ROOT] = -1;
+            for (int v : order) {
+                final int u = parents[v];
+                if (u == ROOT) {
+                    fail[v] = ROOT;
+                } else {
+                    int f = fail[u];
+                    int g;
+                    while ((g = child(edgeKeys, edgeValues, f, chars[v])) < 0 && f != ROOT) {
+                        f = fail[f];
+                    }
+                    fail[v] = g < 0 ? ROOT : g;
+                }
+                final int f = fail[v];
+                dictLink[v] = output[f] >= 0 ? f : dictLink[f];
+            }
+            fail = Arrays.copyOf(fail, nodeCount);
+            depth = Arrays.copyOf(depth, nodeCount);
+            output = Arrays.copyOf(output, nodeCount);
+            dictLink = Arrays.copyOf(dictLink, nodeCount);
+        }
+    }
+
+    /**
+     * 匹配回调
+     */
+    @FunctionalInterface
+    private interface MatchHandler {
+
+        void onMatch(int start, int end, int keyword);
+    }
+
+    /**
+     * 匹配结果
+     */
+    public static final class Match {
+
+        private final int start;
+        private final int end;
+        private final String keyword;
+
+        private Match(final int start, final int end, final String keyword) {
+            this.start = start;
+            this.end = end;
+            this.keyword = keyword;
+        }
+
+        /**
+         * @return 匹配起始位置（包含）
+         */
+        public int start() {
+            return start;
+        }
+
+        /**
+         * @return 匹配结束位置（不包含）
+         */
+        public int end() {
+            return end;
+        }
+
+        /**
+         * @return 匹配的关键字（编译时的原始形式）
+         */
+        public String keyword() {
+            return keyword;
+        }
+
+        @Override
+        public String toString() {
+            return keyword + "[" + start + ", " + end + ")";
+        }
+    }
+
+}
@@ -0,0 +1,380 @@
+package tomkit.core.lang;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 字符串去重池
+ * <p>
+ * 解析大量数据时，状态码、国家代码、枚举值等短字符串会重复出现成千上万次，通过池化让相同内容共享同一个实例。
+ * 与{@link String#intern()}不同，池的容量是有界的：按哈希分组，每组保留最近放入的{@value #WAYS}个字符串，
+ * 组满时淘汰最早放入的字符串，因此不会无限增长。
+ * <p>
+ * 可以直接从{@code char[]}或{@code byte[]}片段查找，命中时不创建新的字符串。
+ * 查找无锁，放入时按分段加锁；线程安全
+ *
+ * <pre class="code">
+ *     StringPool pool = new StringPool(4096);
+ *     pool.intern(chars, 0, 2) == pool.intern("CN") = true
+ *     pool.stats().hitRate()
+ * </pre>
+ *
+ * @author yh
+ * @since 2026/10/18
+ */
+public final class StringPool {
+
+    /**
+     * 默认可池化的最大字符串长度
+     */
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    /**
+     * 每组保留的字符串数量
+     */
+    private static final int WAYS = 4;
+
+    /**
+     * 分段锁数量
+     */
+    private static final int STRIPES = 32;
+
+    /**
+     * 一个字符串对象头、数组对象头等固定开销的估算值，用于统计节省的字节数
+     */
+    private static final int STRING_OVERHEAD = 40;
+
+    /**
+     * 每{@value #WAYS}个一组，读取时不加锁：字符串不可变，读到旧值或{@code null}只会导致未命中
+     */
+    private final String[] slots;
+
+    private final int setMask;
+
+    private final int maxLength;
+
+    private final Object[] locks = new Object[STRIPES];
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder savedBytes = new LongAdder();
+
+    /**
+     * 创建字符串池，最大可池化长度为{@value #DEFAULT_MAX_LENGTH}
+     *
+     * @param capacity 最多保留的字符串数量，向上取整为{@value #WAYS}的2的幂倍
+     */
+    public StringPool(final int capacity) {
+        this(capacity, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * 创建字符串池
+     *
+     * @param capacity  最多保留的字符串数量，向上取整为{@value #WAYS}的2的幂倍
+     * @param maxLength 可池化的最大字符串长度，更长的字符串不放入池中
+     */
+    public StringPool(final int capacity, final int maxLength) {
+        Assert.isTrue(capacity > 0, "capacity has to be greater than 0");
+        Assert.isTrue(maxLength >= 0, "maxLength has to be greater than or equal to 0");
+
+        int sets = 1;
+        while (sets * WAYS < capacity && sets < (1 << 28)) {
+            sets <<= 1;
+        }
+        this.slots = new String[sets * WAYS];
+        this.setMask = sets - 1;
+        this.maxLength = maxLength;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 获取与source内容相同的池中字符串，不存在时放入source
+     *
+     * @param source 字符串
+     * @return 池中字符串，source为{@code null}时返回{@code null}
+     */
+    public String intern(final String source) {
+        if (source == null) {
+            return null;
+        }
+        final int length = source.length();
+        if (length > maxLength) {
+            return source;
+        }
+        final int hash = source.hashCode();
+        final int base = base(hash);
+        for (int i = base; i < base + WAYS; i++) {
+            final String candidate = slots[i];
+            if (candidate != null && candidate.hashCode() == hash && candidate.equals(source)) {
+                return hit(candidate);
+            }
+        }
+        return put(base, hash, source);
+    }
+
+    /**
+     * 获取与字符片段内容相同的池中字符串，命中时不创建新的字符串
+     *
+     * @param chars  字符数组
+     * @param offset 起始位置
+     * @param length 长度
+     * @return 池中字符串
+     */
+    public String intern(final char[] chars, final int offset, final int length) {
+        Assert.notNull(chars, "chars cannot be null");
+        checkFromIndexSize(offset, length, chars.length);
+
+        if (length > maxLength) {
+            return new String(chars, offset, length);
+        }
+        int hash = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        final int base = base(hash);
+        for (int i = base; i < base + WAYS; i++) {
+            final String candidate = slots[i];
+            if (candidate != null && candidate.length() == length && candidate.hashCode() == hash
+                    && contentEquals(candidate, chars, offset)) {
+                return hit(candidate);
+            }
+        }
+        return put(base, hash, new String(chars, offset, length));
+    }
+
+    /**
+     * 获取与字节片段解码后内容相同的池中字符串
+     * <p>
+     * ISO-8859-1编码，以及US-ASCII、UTF-8编码下全部为ASCII的片段直接按字节比较，命中时不创建新的字符串；
+     * 其它情况先解码再查找
+     *
+     * @param bytes   字节数组
+     * @param offset  起始位置
+     * @param length  长度
+     * @param charset 字符编码
+     * @return 池中字符串
+     */
+    public String intern(final byte[] bytes, final int offset, final int length, final Charset charset) {
+        Assert.notNull(bytes, "bytes cannot be null");
+        Assert.notNull(charset, "charset cannot be null");
+        checkFromIndexSize(offset, length, bytes.length);
+
+        if (length > maxLength || !isSingleByte(bytes, offset, length, charset)) {
+            return intern(new String(bytes, offset, length, charset));
+        }
+        int hash = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hash = 31 * hash + (bytes[i] & 0xFF);
+        }
+        final int base = base(hash);
+        for (int i = base; i < base + WAYS; i++) {
+            final String candidate = slots[i];
+            if (candidate != null && candidate.length() == length && candidate.hashCode() == hash
+                    && contentEquals(candidate, bytes, offset)) {
+                return hit(candidate);
+            }
+        }
+        return put(base, hash, new String(bytes, offset, length, StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * 获取可池化的最大字符串长度
+     *
+     * @return 最大字符串长度
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * 获取容量
+     *
+     * @return 最多保留的字符串数量
+     */
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * 清空池并重置统计
+     */
+    public void clear() {
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            synchronized (locks[stripe]) {
+                // 每个分段只清理自己的组
+                for (int set = stripe; set <= setMask; set += STRIPES) {
+                    Arrays.fill(slots, set * WAYS, set * WAYS + WAYS, null);
+                }
+            }
+        }
+        hits.reset();
+        misses.reset();
+        savedBytes.reset();
+    }
+
+    /**
+     * 获取统计快照
+     *
+     * @return 统计
+     */
+    public Stats stats() {
+        int size = 0;
+        for (String slot : slots) {
+            if (slot != null) {
+                size++;
+            }
+        }
+        return new Stats(hits.sum(), misses.sum(), savedBytes.sum(), size, slots.length);
+    }
+
+    private int base(final int hash) {
+        final int h = hash ^ (hash >>> 16);
+        return (h & setMask) * WAYS;
+    }
+
+    private String hit(final String candidate) {
+        hits.increment();
+        savedBytes.add(STRING_OVERHEAD + 2L * candidate.length());
+        return candidate;
+    }
+
+    /**
+     * 放入组的第一个位置，其余后移，淘汰最后一个
+     */
+    private String put(final int base, final int hash, final String value) {
+        misses.increment();
+        synchronized (locks[(base / WAYS) & (STRIPES - 1)]) {
+            // 加锁后再查一次，避免并发放入相同内容
+            for (int i = base; i < base + WAYS; i++) {
+                final String candidate = slots[i];
+                if (candidate != null && candidate.hashCode() == hash && candidate.equals(value)) {
+                    return candidate;
+                }
+            }
+            System.arraycopy(slots, base, slots, base + 1, WAYS - 1);
+            slots[base] = value;
+        }
+        return value;
+    }
+
+    private static boolean contentEquals(final String candidate, final char[] chars, final int offset) {
+        for (int i = 0, length = candidate.length(); i < length; i++) {
+            if (candidate.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contentEquals(final String candidate, final byte[] bytes, final int offset) {
+        for (int i = 0, length = candidate.length(); i < length; i++) {
+            if (candidate.charAt(i) != (bytes[offset + i] & 0xFF)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 片段是否可以按一个字节一个字符解码
+     */
+    private static boolean isSingleByte(final byte[] bytes, final int offset, final int length, final Charset charset) {
+        if (StandardCharsets.ISO_8859_1.equals(charset)) {
+            return true;
+        }
+        if (!StandardCharsets.UTF_8.equals(charset) && !StandardCharsets.US_ASCII.equals(charset)) {
+            return false;
+        }
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (bytes[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void checkFromIndexSize(final int offset, final int length, final int size) {
+        if ((size | offset | length) < 0 || length > size - offset) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+                    + ") out of bounds for length " + size);
+        }
+    }
+
+    /**
+     * 统计
+     */
+    public static final class Stats {
+
+        private final long hitCount;
+        private final long missCount;
+        private final long savedBytes;
+        private final int size;
+        private final int capacity;
+
+        private Stats(final long hitCount, final long missCount, final long savedBytes, final int size,
+                      final int capacity) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.savedBytes = savedBytes;
+            this.size = size;
+            this.capacity = capacity;
+        }
+
+        /**
+         * @return 命中次数
+         */
+        public long hitCount() {
+            return hitCount;
+        }
+
+        /**
+         * @return 未命中次数
+         */
+        public long missCount() {
+            return missCount;
+        }
+
+        /**
+         * @return 命中时省去的字符串的估算字节数
+         */
+        public long savedBytes() {
+            return savedBytes;
+        }
+
+        /**
+         * @return 当前池中字符串数量
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @return 容量
+         */
+        public int capacity() {
+            return capacity;
+        }
+
+        /**
+         * @return 命中率，没有请求时为1.0
+         */
+        public double hitRate() {
+            final long total = hitCount + missCount;
+            return total == 0 ? 1.0 : (double) hitCount / total;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{hitCount=" + hitCount + ", missCount=" + missCount + ", savedBytes=" + savedBytes
+                    + ", size=" + size + ", capacity=" + capacity + '}';
+        }
+    }
+
+}
@@ -5,15 +5,19 @@ import tomkit.core.function.CharSupplier;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
 
 /**
  * 字符串工具类
@@ -28,11 +32,6 @@ public final class Strings {
      */
     private static final String EMPTY = "";
 
-    /**
-     * 下划线
-     */
-    private static final char UNDERLINE = '_';
-
     /**
      * 双引号
      */
@@ -68,6 +67,11 @@ public final class Strings {
      */
     private static final int PAD_LIMIT = 8192;
 
+    /**
+     * 批量操作并行执行的最小数组长度，小于此长度时即使要求并行也顺序执行
+     */
+    public static final int BATCH_PARALLEL_THRESHOLD = 8192;
+
     private Strings() {
         throw new AssertionError("Stringkit cannot be instantiated!");
     }
@@ -505,7 +509,7 @@ public final class Strings {
 
         int length = source.length();
         for (int i = 0; i < length; i++) {
-            if (!Character.isWhitespace(source.charAt(i))) {
+            if (!Characters.isWhitespace(source.charAt(i))) {
                 return true;
             }
         }
@@ -552,7 +556,7 @@ public final class Strings {
 
         int length = source.length();
         for (int i = 0; i < length; i++) {
-            if (Character.isWhitespace(source.charAt(i))) {
+            if (Characters.isWhitespace(source.charAt(i))) {
                 return true;
             }
         }
@@ -577,29 +581,20 @@ public final class Strings {
         return (source != null && source.length() > 0);
     }
 
-    private static final ReentrantLock UUID_LOCK = new ReentrantLock();
-
     /**
      * 生成无连接符uuid
      *
-     * <p>生成的uuid字符串会去除'-'</p>
+     * <p>生成的uuid字符串不包含'-'，生成过程无锁</p>
      *
      * <pre class="code">
      *     Strings.uuid() = 99c68bcb50b849c99bbe41628e6aec32
      * </pre>
      *
      * @return 无连接符uuid
-     * @see UUID#randomUUID()
-     * @see UUID#toString()
-     * @see String#replace(CharSequence, CharSequence)
+     * @see Uuids#randomUUIDString(boolean)
      */
     public static String uuid() {
-        UUID_LOCK.lock();
-        try {
-            return UUID.randomUUID().toString().replace("-", "");
-        } finally {
-            UUID_LOCK.unlock();
-        }
+        return Uuids.randomUUIDString(false);
     }
 
     /**
@@ -610,16 +605,38 @@ public final class Strings {
      * </pre>
      *
      * @return 带连接符uuid
-     * @see UUID#randomUUID()
-     * @see UUID#toString()
+     * @see Uuids#randomUUIDString(boolean)
      */
     public static String uuidL() {
-        UUID_LOCK.lock();
-        try {
-            return UUID.randomUUID().toString();
-        } finally {
-            UUID_LOCK.unlock();
-        }
+        return Uuids.randomUUIDString(true);
+    }
+
+    /**
+     * 生成按时间排序的无连接符uuid（版本7）
+     *
+     * <pre class="code">
+     *     Strings.uuid7() = 019a1f3c5b2e7a3c8f4d2b6e9a1c3d5f
+     * </pre>
+     *
+     * @return 按时间排序的无连接符uuid
+     * @see Uuids#timeOrderedUUIDString(boolean)
+     */
+    public static String uuid7() {
+        return Uuids.timeOrderedUUIDString(false);
+    }
+
+    /**
+     * 生成按时间排序的带连接符uuid（版本7）
+     *
+     * <pre class="code">
+     *     Strings.uuid7L() = 019a1f3c-5b2e-7a3c-8f4d-2b6e9a1c3d5f
+     * </pre>
+     *
+     * @return 按时间排序的带连接符uuid
+     * @see Uuids#timeOrderedUUIDString(boolean)
+     */
+    public static String uuid7L() {
+        return Uuids.timeOrderedUUIDString(true);
     }
 
     /**
@@ -885,10 +902,10 @@ public final class Strings {
      * @param source a string
      * @param regex  正则表达式
      * @return 是否匹配
-     * @see String#matches(String)
+     * @see Patterns#compile(String)
      */
     public static boolean matches(final String source, final String regex) {
-        return (isAllNotEmpty(source, regex) && source.matches(regex));
+        return (isAllNotEmpty(source, regex) && Patterns.compile(regex).matcher(source).matches());
     }
 
     /**
@@ -1311,11 +1328,11 @@ public final class Strings {
         int beginIndex = 0;
         int endIndex = source.length() - 1;
         // 开头
-        while (beginIndex <= endIndex && Character.isWhitespace(source.charAt(beginIndex))) {
+        while (beginIndex <= endIndex && Characters.isWhitespace(source.charAt(beginIndex))) {
             beginIndex++;
         }
         // 结尾
-        while (endIndex > beginIndex && Character.isWhitespace(source.charAt(endIndex))) {
+        while (endIndex > beginIndex && Characters.isWhitespace(source.charAt(endIndex))) {
             endIndex--;
         }
 
@@ -1362,7 +1379,7 @@ public final class Strings {
         StringBuilder builder = new StringBuilder(source.length());
         for (int i = 0; i < length; i++) {
             char c = source.charAt(i);
-            if (!Character.isWhitespace(c)) {
+            if (!Characters.isWhitespace(c)) {
                 builder.append(c);
             }
         }
@@ -1406,7 +1423,7 @@ public final class Strings {
         }
 
         int beginIdx = 0;
-        while (beginIdx < source.length() && Character.isWhitespace(source.charAt(beginIdx))) {
+        while (beginIdx < source.length() && Characters.isWhitespace(source.charAt(beginIdx))) {
             beginIdx++;
         }
         return source.substring(beginIdx);
@@ -1449,7 +1466,7 @@ public final class Strings {
         }
 
         int endIdx = source.length() - 1;
-        while (endIdx >= 0 && Character.isWhitespace(source.charAt(endIdx))) {
+        while (endIdx >= 0 && Characters.isWhitespace(source.charAt(endIdx))) {
             endIdx--;
         }
         return source.substring(0, endIdx + 1);
@@ -1752,9 +1769,10 @@ public final class Strings {
      * @param regex       需要替换的正则
      * @param replacement 新值
      * @return 替换后的字符串
+     * @see Patterns#compile(String)
      */
     public static String replaceAll(final String source, final String regex, final String replacement) {
-        return isAllNotNull(source, regex, replacement) ? source.replaceAll(regex, replacement) : source;
+        return isAllNotNull(source, regex, replacement) ? Patterns.compile(regex).matcher(source).replaceAll(replacement) : source;
     }
 
     /**
@@ -1775,7 +1793,7 @@ public final class Strings {
      * @return 替换后的字符串
      */
     public static String replaceFirst(final String source, final String regex, final String replacement) {
-        return isAllNotNull(source, regex, replacement) ? source.replaceFirst(regex, replacement) : source;
+        return isAllNotNull(source, regex, replacement) ? Patterns.compile(regex).matcher(source).replaceFirst(replacement) : source;
     }
 
     /**
@@ -1813,7 +1831,7 @@ public final class Strings {
      * @return string
      */
     public static String removeAll(final String source, final String regex) {
-        return isAllNotEmpty(source, regex) ? source.replaceAll(regex, EMPTY) : source;
+        return isAllNotEmpty(source, regex) ? Patterns.compile(regex).matcher(source).replaceAll(EMPTY) : source;
     }
 
     /**
@@ -1832,7 +1850,7 @@ public final class Strings {
      * @return string
      */
     public static String removeFirst(final String source, final String regex) {
-        return isAllNotEmpty(source, regex) ? source.replaceFirst(regex, EMPTY) : source;
+        return isAllNotEmpty(source, regex) ? Patterns.compile(regex).matcher(source).replaceFirst(EMPTY) : source;
     }
 
     /**
@@ -2371,10 +2389,7 @@ public final class Strings {
      * @return 大写字符串
      */
     public static String upperCase(final String source) {
-        if (isEmpty(source)) {
-            return source;
-        }
-        return source.toUpperCase();
+        return upperCase(source, null);
     }
 
     /**
@@ -2396,6 +2411,9 @@ public final class Strings {
         if (isEmpty(source)) {
             return source;
         }
+        if (isAsciiCaseSafe(source, locale)) {
+            return Ascii.toUpperCase(source);
+        }
         if (null != locale) {
             return source.toUpperCase(locale);
         } else {
@@ -2418,10 +2436,7 @@ public final class Strings {
      * @return 小写字符串
      */
     public static String lowerCase(final String source) {
-        if (isEmpty(source)) {
-            return source;
-        }
-        return source.toLowerCase();
+        return lowerCase(source, null);
     }
 
     /**
@@ -2443,6 +2458,9 @@ public final class Strings {
         if (isEmpty(source)) {
             return source;
         }
+        if (isAsciiCaseSafe(source, locale)) {
+            return Ascii.toLowerCase(source);
+        }
         if (null != locale) {
             return source.toLowerCase(locale);
         } else {
@@ -2450,6 +2468,14 @@ public final class Strings {
         }
     }
 
+    /**
+     * ASCII字符串在土耳其语、阿塞拜疆语、立陶宛语以外的地区按ASCII规则转换大小写，与{@link String#toUpperCase(Locale)}结果一致
+     */
+    private static boolean isAsciiCaseSafe(final String source, final Locale locale) {
+        final String language = (null == locale ? Locale.getDefault() : locale).getLanguage();
+        return !"tr".equals(language) && !"az".equals(language) && !"lt".equals(language) && Ascii.isAscii(source);
+    }
+
     /**
      * 大小写互换，大写转小写，小写转大写
      *
@@ -2469,20 +2495,24 @@ public final class Strings {
             return source;
         }
         int length = source.length();
-        StringBuilder buffer = new StringBuilder(length);
+        char[] chars = new char[length];
 
         for (int i = 0; i < length; i++) {
             char ch = source.charAt(i);
-            if (Character.isUpperCase(ch)) {
+            if (ch <= Ascii.MAX) {
+                if (Ascii.isUpperCase(ch) || Ascii.isLowerCase(ch)) {
+                    ch ^= 0x20;
+                }
+            } else if (Character.isUpperCase(ch)) {
                 ch = Character.toLowerCase(ch);
             } else if (Character.isTitleCase(ch)) {
                 ch = Character.toLowerCase(ch);
             } else if (Character.isLowerCase(ch)) {
                 ch = Character.toUpperCase(ch);
             }
-            buffer.append(ch);
+            chars[i] = ch;
         }
-        return buffer.toString();
+        return new String(chars);
     }
 
     /**
@@ -2562,24 +2592,7 @@ public final class Strings {
      * @return 驼峰命名字符串
      */
     public static String underscoreToCamelCase(final String source) {
-        if (isEmpty(source)) {
-            return source;
-        }
-        StringBuilder builder = new StringBuilder(source);
-        for (int i = 1; i < builder.length() - 1; i++) {
-            char before = builder.charAt(i - 1);
-            char current = builder.charAt(i);
-            char after = builder.charAt(i + 1);
-            if (isUnderscoreCaseRequired(before, current, after)) {
-                builder.delete(i, i + 2);
-                builder.insert(i, Character.toUpperCase(after));
-            }
-        }
-        return builder.toString();
-    }
-
-    private static boolean isUnderscoreCaseRequired(final char before, final char current, final char after) {
-        return ((Character.isLowerCase(before) || Characters.isAsciiNumeric(before)) && current == UNDERLINE && Character.isLowerCase(after));
+        return NamingCases.underscoreToCamelCase(source);
     }
 
     /**
@@ -2602,25 +2615,7 @@ public final class Strings {
      * @return 下划线命名字符串
      */
     public static String camelToUnderscoreCase(final String source) {
-        if (isEmpty(source)) {
-            return source;
-        }
-        StringBuilder builder = new StringBuilder(source);
-        for (int i = 1; i < builder.length() - 1; i++) {
-            char before = builder.charAt(i - 1);
-            char current = builder.charAt(i);
-            char after = builder.charAt(i + 1);
-            if (isCamelCaseRequired(before, current, after)) {
-                builder.insert(i++, UNDERLINE);
-                builder.deleteCharAt(i);
-                builder.insert(i, Character.toLowerCase(current));
-            }
-        }
-        return builder.toString();
-    }
-
-    private static boolean isCamelCaseRequired(final char before, final char current, final char after) {
-        return ((Character.isLowerCase(before) || Characters.isAsciiNumeric(before)) && Character.isUpperCase(current) && Character.isLowerCase(after));
+        return NamingCases.camelToUnderscoreCase(source);
     }
 
     /**
@@ -2716,19 +2711,23 @@ public final class Strings {
         if (isEmpty(source)) {
             return source;
         }
-        source = strip(source);
-        StringBuilder b = new StringBuilder(source.length());
-        for (int i = 0; i < source.length(); i++) {
-            char c = source.charAt(i);
-            if (Character.isWhitespace(c)) {
-                if (i > 0 && !Character.isWhitespace(source.charAt(i - 1))) {
-                    b.append(SPACE);
-                }
+        final int length = source.length();
+        final char[] chars = new char[length];
+        int count = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < length; i++) {
+            final char c = source.charAt(i);
+            if (Characters.isWhitespace(c)) {
+                pendingSpace = count > 0;
             } else {
-                b.append(c);
+                if (pendingSpace) {
+                    chars[count++] = SPACE;
+                    pendingSpace = false;
+                }
+                chars[count++] = c;
             }
         }
-        return b.toString();
+        return new String(chars, 0, count);
     }
 
     /**
@@ -3028,7 +3027,7 @@ public final class Strings {
      * @see Character#isWhitespace(char)
      */
     public static boolean isWhitespace(final CharSequence source) {
-        return isCharPredicate(source, Character::isWhitespace);
+        return isCharPredicate(source, Characters::isWhitespace);
     }
 
     /**
@@ -3087,4 +3086,336 @@ public final class Strings {
             }
         }
     }
+
+    // ---------------------------------------------------------------- 批量操作
+
+    /**
+     * 批量去掉开头和结尾的空格，返回新数组，规则同{@link #trim(String)}
+     *
+     * <pre class="code">
+     *     Strings.trimAll(new String[]{" a", null}) = ["a", null]
+     * </pre>
+     *
+     * @param sources 字符串数组
+     * @return 处理后的新数组
+     */
+    public static String[] trimAll(final String[] sources) {
+        return trimAll(sources, false);
+    }
+
+    /**
+     * 批量去掉开头和结尾的空格，返回新数组，规则同{@link #trim(String)}
+     *
+     * @param sources  字符串数组
+     * @param parallel 数组长度不小于{@link #BATCH_PARALLEL_THRESHOLD}时是否并行处理
+     * @return 处理后的新数组
+     */
+    public static String[] trimAll(final String[] sources, final boolean parallel) {
+        return mapAll(sources, parallel, v -> v == null ? null : v.trim());
+    }
+
+    /**
+     * 批量去掉开头和结尾的空格，规则同{@link #trim(String)}
+     *
+     * @param sources 字符串集合
+     * @return 处理后的列表
+     */
+    public static List<String> trimAll(final Iterable<String> sources) {
+        return mapAll(sources, v -> v == null ? null : v.trim());
+    }
+
+    /**
+     * 批量转小写，返回新数组，规则同{@link #lowerCase(String)}
+     *
+     * @param sources 字符串数组
+     * @return 处理后的新数组
+     */
+    public static String[] lowerCaseAll(final String[] sources) {
+        return lowerCaseAll(sources, null, false);
+    }
+
+    /**
+     * 批量转小写，返回新数组，规则同{@link #lowerCase(String, Locale)}
+     *
+     * @param sources  字符串数组
+     * @param locale   地区，为{@code null}时使用默认地区
+     * @param parallel 数组长度不小于{@link #BATCH_PARALLEL_THRESHOLD}时是否并行处理
+     * @return 处理后的新数组
+     */
+    public static String[] lowerCaseAll(final String[] sources, final Locale locale, final boolean parallel) {
+        final Locale l = locale == null ? Locale.getDefault() : locale;
+        return mapAll(sources, parallel, v -> v == null ? null : v.toLowerCase(l));
+    }
+
+    /**
+     * 批量转小写，规则同{@link #lowerCase(String)}
+     *
+     * @param sources 字符串集合
+     * @return 处理后的列表
+     */
+    public static List<String> lowerCaseAll(final Iterable<String> sources) {
+        final Locale l = Locale.getDefault();
+        return mapAll(sources, v -> v == null ? null : v.toLowerCase(l));
+    }
+
+    /**
+     * 批量转大写，返回新数组，规则同{@link #upperCase(String)}
+     *
+     * @param sources 字符串数组
+     * @return 处理后的新数组
+     */
+    public static String[] upperCaseAll(final String[] sources) {
+        return upperCaseAll(sources, null, false);
+    }
+
+    /**
+     * 批量转大写，返回新数组，规则同{@link #upperCase(String, Locale)}
+     *
+     * @param sources  字符串数组
+     * @param locale   地区，为{@code null}时使用默认地区
+     * @param parallel 数组长度不小于{@link #BATCH_PARALLEL_THRESHOLD}时是否并行处理
+     * @return 处理后的新数组
+     */
+    public static String[] upperCaseAll(final String[] sources, final Locale locale, final boolean parallel) {
+        final Locale l = locale == null ? Locale.getDefault() : locale;
+        return mapAll(sources, parallel, v -> v == null ? null : v.toUpperCase(l));
+    }
+
+    /**
+     * 批量转大写，规则同{@link #upperCase(String)}
+     *
+     * @param sources 字符串集合
+     * @return 处理后的列表
+     */
+    public static List<String> upperCaseAll(final Iterable<String> sources) {
+        final Locale l = Locale.getDefault();
+        return mapAll(sources, v -> v == null ? null : v.toUpperCase(l));
+    }
+
+    /**
+     * 批量左侧填充字符，返回新数组，规则同{@link #lpad(String, int, char)}
+     *
+     * @param sources 字符串数组
+     * @param size    字符串最大长度
+     * @param padChar 填充的字符
+     * @return 处理后的新数组
+     */
+    public static String[] lpadAll(final String[] sources, final int size, final char padChar) {
+        return lpadAll(sources, size, padChar, false);
+    }
+
+    /**
+     * 批量左侧填充字符，返回新数组，规则同{@link #lpad(String, int, char)}
+     * <p>
+     * 所有元素共用同一个填充字符数组
+     *
+     * @param sources  字符串数组
+     * @param size     字符串最大长度
+     * @param padChar  填充的字符
+     * @param parallel 数组长度不小于{@link #BATCH_PARALLEL_THRESHOLD}时是否并行处理
+     * @return 处理后的新数组
+     */
+    public static String[] lpadAll(final String[] sources, final int size, final char padChar, final boolean parallel) {
+        final char[] padding = batchPadding(size, padChar);
+        return mapAll(sources, parallel, v -> padAll(v, size, padding, true));
+    }
+
+    /**
+     * 批量右侧填充字符，返回新数组，规则同{@link #rpad(String, int, char)}
+     *
+     * @param sources 字符串数组
+     * @param size    字符串最大长度
+     * @param padChar 填充的字符
+     * @return 处理后的新数组
+     */
+    public static String[] rpadAll(final String[] sources, final int size, final char padChar) {
+        return rpadAll(sources, size, padChar, false);
+    }
+
+    /**
+     * 批量右侧填充字符，返回新数组，规则同{@link #rpad(String, int, char)}
+     * <p>
+     * 所有元素共用同一个填充字符数组
+     *
+     * @param sources  字符串数组
+     * @param size     字符串最大长度
+     * @param padChar  填充的字符
+     * @param parallel 数组长度不小于{@link #BATCH_PARALLEL_THRESHOLD}时是否并行处理
+     * @return 处理后的新数组
+     */
+    public static String[] rpadAll(final String[] sources, final int size, final char padChar, final boolean parallel) {
+        final char[] padding = batchPadding(size, padChar);
+        return mapAll(sources, parallel, v -> padAll(v, size, padding, false));
+    }
+
+    /**
+     * 批量判断是否为空白，第i位为true表示第i个元素{@link #isBlank(CharSequence) 为空白}
+     *
+     * <pre class="code">
+     *     Strings.isBlankMask(new String[]{"a", " ", null}) = {1, 2}
+     * </pre>
+     *
+     * @param sources 字符序列数组
+     * @return 空白元素的位集合
+     */
+    public static BitSet isBlankMask(final CharSequence[] sources) {
+        return isBlankMask(sources, false);
+    }
+
+    /**
+     * 批量判断是否为空白，第i位为true表示第i个元素{@link #isBlank(CharSequence) 为空白}
+     *
+     * @param sources  字符序列数组
+     * @param parallel 数组长度不小于{@link #BATCH_PARALLEL_THRESHOLD}时是否并行处理
+     * @return 空白元素的位集合
+     */
+    public static BitSet isBlankMask(final CharSequence[] sources, final boolean parallel) {
+        Assert.notNull(sources, "sources cannot be null");
+
+        // 按64个元素一组计算long，各组互不影响，可以并行
+        final long[] words = new long[(sources.length + 63) >>> 6];
+        final IntStream range = IntStream.range(0, words.length);
+        (parallel && sources.length >= BATCH_PARALLEL_THRESHOLD ? range.parallel() : range).forEach(w -> {
+            final int from = w << 6;
+            final int to = Math.min(from + 64, sources.length);
+            long word = 0L;
+            for (int i = from; i < to; i++) {
+                if (!hasText(sources[i])) {
+                    word |= 1L << (i - from);
+                }
+            }
+            words[w] = word;
+        });
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * 批量判断是否为空白，第i位为true表示第i个元素{@link #isBlank(CharSequence) 为空白}
+     *
+     * @param sources 字符序列集合
+     * @return 空白元素的位集合
+     */
+    public static BitSet isBlankMask(final Iterable<? extends CharSequence> sources) {
+        Assert.notNull(sources, "sources cannot be null");
+
+        final BitSet mask = new BitSet();
+        int i = 0;
+        for (CharSequence source : sources) {
+            if (!hasText(source)) {
+                mask.set(i);
+            }
+            i++;
+        }
+        return mask;
+    }
+
+    /**
+     * 批量拼接，每一行的元素按delimiter拼接为一个字符串，规则同{@link #join(CharSequence, CharSequence...)}
+     *
+     * <pre class="code">
+     *     Strings.joinAll(",", new String[][]{{"a", "b"}, {"c"}}) = ["a,b", "c"]
+     * </pre>
+     *
+     * @param delimiter 分隔每个元素的分隔符
+     * @param rows      需要拼接的行
+     * @return 每一行拼接后的字符串
+     */
+    public static String[] joinAll(final CharSequence delimiter, final CharSequence[][] rows) {
+        return joinAll(delimiter, rows, false);
+    }
+
+    /**
+     * 批量拼接，每一行的元素按delimiter拼接为一个字符串，规则同{@link #join(CharSequence, CharSequence...)}
+     * <p>
+     * 每一行按元素长度之和预先分配容量
+     *
+     * @param delimiter 分隔每个元素的分隔符
+     * @param rows      需要拼接的行
+     * @param parallel  行数不小于{@link #BATCH_PARALLEL_THRESHOLD}时是否并行处理
+     * @return 每一行拼接后的字符串
+     */
+    public static String[] joinAll(final CharSequence delimiter, final CharSequence[][] rows, final boolean parallel) {
+        Assert.notNull(delimiter, "delimiter cannot be null");
+        Assert.notNull(rows, "rows cannot be null");
+
+        final String sep = delimiter.toString();
+        final String[] result = new String[rows.length];
+        if (parallel && rows.length >= BATCH_PARALLEL_THRESHOLD) {
+            Arrays.parallelSetAll(result, i -> joinRow(sep, rows[i]));
+        } else {
+            for (int i = 0; i < rows.length; i++) {
+                result[i] = joinRow(sep, rows[i]);
+            }
+        }
+        return result;
+    }
+
+    private static String joinRow(final String delimiter, final CharSequence[] row) {
+        Assert.notNull(row, "row cannot be null");
+
+        if (row.length == 0) {
+            return EMPTY;
+        }
+        int capacity = delimiter.length() * (row.length - 1);
+        for (CharSequence element : row) {
+            capacity += element == null ? 4 : element.length();
+        }
+        final StringBuilder builder = new StringBuilder(capacity);
+        builder.append(row[0]);
+        for (int i = 1; i < row.length; i++) {
+            builder.append(delimiter).append(row[i]);
+        }
+        return builder.toString();
+    }
+
+    private static String[] mapAll(final String[] sources, final boolean parallel, final UnaryOperator<String> fun) {
+        Assert.notNull(sources, "sources cannot be null");
+
+        final String[] result = new String[sources.length];
+        if (parallel && sources.length >= BATCH_PARALLEL_THRESHOLD) {
+            Arrays.parallelSetAll(result, i -> fun.apply(sources[i]));
+        } else {
+            for (int i = 0; i < sources.length; i++) {
+                result[i] = fun.apply(sources[i]);
+            }
+        }
+        return result;
+    }
+
+    private static List<String> mapAll(final Iterable<String> sources, final UnaryOperator<String> fun) {
+        Assert.notNull(sources, "sources cannot be null");
+
+        final List<String> result = sources instanceof Collection
+                ? new ArrayList<>(((Collection<String>) sources).size()) : new ArrayList<>();
+        for (String source : sources) {
+            result.add(fun.apply(source));
+        }
+        return result;
+    }
+
+    private static char[] batchPadding(final int size, final char padChar) {
+        final char[] padding = new char[Math.max(size, 0)];
+        Arrays.fill(padding, padChar);
+        return padding;
+    }
+
+    private static String padAll(final String source, final int size, final char[] padding, final boolean left) {
+        if (source == null) {
+            return null;
+        }
+        final int length = source.length();
+        final int pads = size - length;
+        if (pads <= 0) {
+            return source;
+        }
+        final char[] chars = new char[size];
+        if (left) {
+            System.arraycopy(padding, 0, chars, 0, pads);
+            source.getChars(0, length, chars, pads);
+        } else {
+            source.getChars(0, length, chars, 0);
+            System.arraycopy(padding, 0, chars, length, pads);
+        }
+        return new String(chars);
+    }
 }
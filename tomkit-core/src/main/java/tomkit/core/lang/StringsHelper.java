@@ -2,6 +2,9 @@ package tomkit.core.lang;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.function.Function;
@@ -43,20 +46,78 @@ public final class StringsHelper {
         return new Builder(Strings.toString(bytes, charset));
     }
 
+    /**
+     * 字符串构建器
+     * <p>
+     * 中间操作只记录，不立即执行；在{@link #get()}或任一终止操作时按顺序一次执行。
+     * 相邻的trim/strip/截取和逐字符的替换/大小写转换在同一个字符缓冲区上合并执行，
+     * 不产生中间字符串；其它操作逐个执行
+     */
     public static class Builder {
 
         private String value;
 
+        /**
+         * 尚未执行的中间操作
+         */
+        private List<Step> steps;
+
         private Builder(String value) {
             this.value = value;
         }
 
+        private Builder then(final Function<String, String> fun) {
+            return then(new Step(fun));
+        }
+
+        private Builder then(final Step step) {
+            if (steps == null) {
+                steps = new ArrayList<>();
+            }
+            steps.add(step);
+            return this;
+        }
+
+        /**
+         * 执行所有尚未执行的中间操作并返回结果
+         */
+        private String value() {
+            if (steps == null || steps.isEmpty()) {
+                return value;
+            }
+            String v = value;
+            FusedBuffer buffer = null;
+            for (Step step : steps) {
+                if (buffer != null && step.fuse(buffer)) {
+                    continue;
+                }
+                if (buffer == null && v != null && step.fusible()) {
+                    final FusedBuffer b = new FusedBuffer(v);
+                    if (step.fuse(b)) {
+                        buffer = b;
+                        continue;
+                    }
+                }
+                if (buffer != null) {
+                    v = buffer.result();
+                    buffer = null;
+                }
+                v = step.apply(v);
+            }
+            if (buffer != null) {
+                v = buffer.result();
+            }
+            value = v;
+            steps.clear();
+            return v;
+        }
+
         public Optional<String> optional() {
-            return Optional.ofNullable(value);
+            return Optional.ofNullable(value());
         }
 
         public String get() {
-            return value;
+            return value();
         }
 
         /*---------------------------- 中间操作 ----------------------------*/
@@ -67,8 +128,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder doubleQuote() {
-            value = Strings.doubleQuote(value);
-            return this;
+            return then(v -> Strings.doubleQuote(v));
         }
 
         /**
@@ -77,8 +137,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder quote() {
-            value = Strings.quote(value);
-            return this;
+            return then(v -> Strings.quote(v));
         }
 
         /**
@@ -88,8 +147,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder twoFlanks(final String tag) {
-            value = Strings.twoFlanks(value, tag);
-            return this;
+            return then(v -> Strings.twoFlanks(v, tag));
         }
 
         /**
@@ -98,8 +156,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder trim() {
-            value = Strings.trim(value);
-            return this;
+            return then(BoundStep.TRIM);
         }
 
         /**
@@ -123,8 +180,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder strip() {
-            value = Strings.strip(value);
-            return this;
+            return then(BoundStep.STRIP);
         }
 
         /**
@@ -149,8 +205,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder stripAll() {
-            value = Strings.stripAll(value);
-            return this;
+            return then(v -> Strings.stripAll(v));
         }
 
         /**
@@ -175,8 +230,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder stripStart() {
-            value = Strings.stripStart(value);
-            return this;
+            return then(BoundStep.STRIP_START);
         }
 
         /**
@@ -201,8 +255,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder stripEnd() {
-            value = Strings.stripEnd(value);
-            return this;
+            return then(BoundStep.STRIP_END);
         }
 
         /**
@@ -211,8 +264,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder defaultStr() {
-            value = Strings.defaultStr(value);
-            return this;
+            return then(v -> Strings.defaultStr(v));
         }
 
         /**
@@ -222,8 +274,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder defaultIfNull(final String defaultStr) {
-            value = Strings.defaultIfNull(value, defaultStr);
-            return this;
+            return then(v -> Strings.defaultIfNull(v, defaultStr));
         }
 
         /**
@@ -233,8 +284,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder defaultIfEmpty(final String defaultStr) {
-            value = Strings.defaultIfEmpty(value, defaultStr);
-            return this;
+            return then(v -> Strings.defaultIfEmpty(v, defaultStr));
         }
 
         /**
@@ -260,8 +310,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder defaultIfBlank(String defaultStr) {
-            value = Strings.defaultIfBlank(value, defaultStr);
-            return this;
+            return then(v -> Strings.defaultIfBlank(v, defaultStr));
         }
 
         /**
@@ -271,8 +320,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder left(final int len) {
-            value = Strings.left(value, len);
-            return this;
+            return then(BoundStep.left(len));
         }
 
         /**
@@ -282,8 +330,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder right(final int len) {
-            value = Strings.right(value, len);
-            return this;
+            return then(BoundStep.right(len));
         }
 
         /**
@@ -294,8 +341,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder mid(final int pos, final int len) {
-            value = Strings.mid(value, pos, len);
-            return this;
+            return then(BoundStep.mid(pos, len));
         }
 
         /**
@@ -306,8 +352,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder replace(final char target, final char replacement) {
-            value = Strings.replace(value, target, replacement);
-            return this;
+            return then(CharStep.replace(target, replacement));
         }
 
         /**
@@ -318,8 +363,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder replace(final CharSequence target, final CharSequence replacement) {
-            value = Strings.replace(value, target, replacement);
-            return this;
+            return then(v -> Strings.replace(v, target, replacement));
         }
 
         /**
@@ -330,8 +374,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder replaceAll(final String regex, final String replacement) {
-            value = Strings.replaceAll(value, regex, replacement);
-            return this;
+            return then(v -> Strings.replaceAll(v, regex, replacement));
         }
 
         /**
@@ -342,8 +385,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder replaceFirst(final String regex, final String replacement) {
-            value = Strings.replaceFirst(value, regex, replacement);
-            return this;
+            return then(v -> Strings.replaceFirst(v, regex, replacement));
         }
 
         /**
@@ -353,8 +395,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder remove(final CharSequence str) {
-            value = Strings.remove(value, str);
-            return this;
+            return then(v -> Strings.remove(v, str));
         }
 
         /**
@@ -364,8 +405,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder removeAll(final String regex) {
-            value = Strings.removeAll(value, regex);
-            return this;
+            return then(v -> Strings.removeAll(v, regex));
         }
 
         /**
@@ -375,8 +415,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder removeFirst(final String regex) {
-            value = Strings.removeFirst(value, regex);
-            return this;
+            return then(v -> Strings.removeFirst(v, regex));
         }
 
         /**
@@ -386,8 +425,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder removeLast(final String str) {
-            value = Strings.removeLast(value, str);
-            return this;
+            return then(v -> Strings.removeLast(v, str));
         }
 
         /**
@@ -396,8 +434,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder suffix() {
-            value = Strings.suffix(value);
-            return this;
+            return then(v -> Strings.suffix(v));
         }
 
         /**
@@ -407,8 +444,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder suffix(final char separator) {
-            value = Strings.suffix(value, separator);
-            return this;
+            return then(v -> Strings.suffix(v, separator));
         }
 
 
@@ -419,8 +455,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder repeat(int repeat) {
-            value = Strings.repeat(value, repeat);
-            return this;
+            return then(v -> Strings.repeat(v, repeat));
         }
 
         /**
@@ -430,8 +465,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder rpad(final int size) {
-            value = Strings.rpad(value, size);
-            return this;
+            return then(v -> Strings.rpad(v, size));
         }
 
         /**
@@ -442,8 +476,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder rpad(final int size, final char padChar) {
-            value = Strings.rpad(value, size, padChar);
-            return this;
+            return then(v -> Strings.rpad(v, size, padChar));
         }
 
         /**
@@ -454,8 +487,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder rpad(final int size, final String padStr) {
-            value = Strings.rpad(value, size, padStr);
-            return this;
+            return then(v -> Strings.rpad(v, size, padStr));
         }
 
 
@@ -466,8 +498,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder lpad(int size) {
-            value = Strings.lpad(value, size);
-            return this;
+            return then(v -> Strings.lpad(v, size));
         }
 
         /**
@@ -478,8 +509,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder lpad(final int size, final char padChar) {
-            value = Strings.lpad(value, size, padChar);
-            return this;
+            return then(v -> Strings.lpad(v, size, padChar));
         }
 
         /**
@@ -490,8 +520,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder lpad(final int size, final String padStr) {
-            value = Strings.lpad(value, size, padStr);
-            return this;
+            return then(v -> Strings.lpad(v, size, padStr));
         }
 
         /**
@@ -500,8 +529,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder upperCase() {
-            value = Strings.upperCase(value);
-            return this;
+            return then(CharStep.upperCase(null));
         }
 
         /**
@@ -511,8 +539,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder upperCase(Locale locale) {
-            value = Strings.upperCase(value, locale);
-            return this;
+            return then(CharStep.upperCase(locale));
         }
 
         /**
@@ -521,8 +548,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder lowerCase() {
-            value = Strings.lowerCase(value);
-            return this;
+            return then(CharStep.lowerCase(null));
         }
 
         /**
@@ -532,8 +558,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder lowerCase(final Locale locale) {
-            value = Strings.lowerCase(value, locale);
-            return this;
+            return then(CharStep.lowerCase(locale));
         }
 
         /**
@@ -542,8 +567,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder swapCase() {
-            value = Strings.swapCase(value);
-            return this;
+            return then(CharStep.SWAP_CASE);
         }
 
         /**
@@ -552,8 +576,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder capitalize() {
-            value = Strings.capitalize(value);
-            return this;
+            return then(v -> Strings.capitalize(v));
         }
 
         /**
@@ -562,8 +585,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder uncapitalize() {
-            value = Strings.uncapitalize(value);
-            return this;
+            return then(v -> Strings.uncapitalize(v));
         }
 
         /**
@@ -572,8 +594,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder underscoreToCamelCase() {
-            value = Strings.underscoreToCamelCase(value);
-            return this;
+            return then(v -> Strings.underscoreToCamelCase(v));
         }
 
         /**
@@ -582,8 +603,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder camelToUnderscoreCase() {
-            value = Strings.camelToUnderscoreCase(value);
-            return this;
+            return then(v -> Strings.camelToUnderscoreCase(v));
         }
 
         /**
@@ -592,8 +612,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder reverse() {
-            value = Strings.reverse(value);
-            return this;
+            return then(v -> Strings.reverse(v));
         }
 
         /**
@@ -603,8 +622,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder abbreviate(final int maxWidth) {
-            value = Strings.abbreviate(value, maxWidth);
-            return this;
+            return then(v -> Strings.abbreviate(v, maxWidth));
         }
 
         /**
@@ -613,8 +631,7 @@ public final class StringsHelper {
          * @return Builder
          */
         public Builder normalizeSpace() {
-            value = Strings.normalizeSpace(value);
-            return this;
+            return then(v -> Strings.normalizeSpace(v));
         }
 
         /*---------------------------- 终止操作 ----------------------------*/
@@ -625,7 +642,7 @@ public final class StringsHelper {
          * @return 是否为null
          */
         public boolean isNull() {
-            return value == null;
+            return value() == null;
         }
 
         /**
@@ -634,7 +651,7 @@ public final class StringsHelper {
          * @return 是否非null
          */
         public boolean isNotNull() {
-            return value != null;
+            return value() != null;
         }
 
         /**
@@ -643,7 +660,7 @@ public final class StringsHelper {
          * @return 是否为 {@code null} 或 {@code ""}
          */
         public boolean isEmpty() {
-            return Strings.isEmpty(value);
+            return Strings.isEmpty(value());
         }
 
         /**
@@ -652,7 +669,7 @@ public final class StringsHelper {
          * @return 是否不为 {@code null} 或 {@code ""}
          */
         public boolean isNotEmpty() {
-            return Strings.isNotEmpty(value);
+            return Strings.isNotEmpty(value());
         }
 
         /**
@@ -662,7 +679,7 @@ public final class StringsHelper {
          * @return 是否为 {@code null}, {@code ""} 或空格
          */
         public boolean isSpace() {
-            return Strings.isSpace(value);
+            return Strings.isSpace(value());
         }
 
         /**
@@ -672,7 +689,7 @@ public final class StringsHelper {
          * @return 是否不为 {@code null}, {@code ""} 或空格
          */
         public boolean isNotSpace() {
-            return Strings.isNotSpace(value);
+            return Strings.isNotSpace(value());
         }
 
         /**
@@ -697,7 +714,7 @@ public final class StringsHelper {
          * @return 是否为 {@code null}, {@code ""} 或空白字符
          */
         public boolean isBlank() {
-            return Strings.isBlank(value);
+            return Strings.isBlank(value());
         }
 
         /**
@@ -722,7 +739,7 @@ public final class StringsHelper {
          * @return 是否不为 {@code null}, {@code ""} 或空白字符
          */
         public boolean isNotBlank() {
-            return Strings.isNotBlank(value);
+            return Strings.isNotBlank(value());
         }
 
         /**
@@ -731,7 +748,7 @@ public final class StringsHelper {
          * @return 是否存在非空白字符
          */
         public boolean hasText() {
-            return Strings.hasText(value);
+            return Strings.hasText(value());
         }
 
         /**
@@ -758,7 +775,7 @@ public final class StringsHelper {
          * @return 是否含有空白字符
          */
         public boolean hasWhitespace() {
-            return Strings.hasWhitespace(value);
+            return Strings.hasWhitespace(value());
         }
 
         /**
@@ -767,7 +784,7 @@ public final class StringsHelper {
          * @return 长度是否大于
          */
         public boolean hasLength() {
-            return Strings.hasLength(value);
+            return Strings.hasLength(value());
         }
 
         /**
@@ -777,7 +794,7 @@ public final class StringsHelper {
          * @return 是否符合给定谓语表达式
          */
         public boolean test(final Predicate<String> predicate) {
-            return Strings.test(value, predicate);
+            return Strings.test(value(), predicate);
         }
 
         /**
@@ -787,7 +804,7 @@ public final class StringsHelper {
          * @return 是否包含指定字符序列
          */
         public boolean contains(final CharSequence x) {
-            return Strings.contains(value, x);
+            return Strings.contains(value(), x);
         }
 
         /**
@@ -797,7 +814,7 @@ public final class StringsHelper {
          * @return 是否含有指定字符
          */
         public boolean contains(final char c) {
-            return Strings.contains(value, c);
+            return Strings.contains(value(), c);
         }
 
         /**
@@ -807,7 +824,7 @@ public final class StringsHelper {
          * @return 是否匹配正则表达式
          */
         public boolean matches(final String regex) {
-            return Strings.matches(value, regex);
+            return Strings.matches(value(), regex);
         }
 
         /**
@@ -817,7 +834,7 @@ public final class StringsHelper {
          * @return 是否以指定字符串开始
          */
         public boolean startsWith(final String prefix) {
-            return Strings.startsWith(value, prefix);
+            return Strings.startsWith(value(), prefix);
         }
 
         /**
@@ -827,7 +844,7 @@ public final class StringsHelper {
          * @return 是否以指定字符串开始（不区分大小写）
          */
         public boolean startsWithIgnoreCase(final String prefix) {
-            return Strings.startsWithIgnoreCase(value, prefix);
+            return Strings.startsWithIgnoreCase(value(), prefix);
         }
 
         /**
@@ -837,7 +854,7 @@ public final class StringsHelper {
          * @return 是否以指定字符串结尾
          */
         public boolean endsWith(final String suffix) {
-            return Strings.endsWith(value, suffix);
+            return Strings.endsWith(value(), suffix);
         }
 
         /**
@@ -847,7 +864,7 @@ public final class StringsHelper {
          * @return 是否以指定字符串结尾（不区分大小写）
          */
         public boolean endsWithIgnoreCase(final String suffix) {
-            return Strings.endsWithIgnoreCase(value, suffix);
+            return Strings.endsWithIgnoreCase(value(), suffix);
         }
 
         /**
@@ -857,7 +874,7 @@ public final class StringsHelper {
          * @return a是否等于b
          */
         public boolean equals(final CharSequence b) {
-            return Strings.equals(value, b);
+            return Strings.equals(value(), b);
         }
 
         /**
@@ -867,7 +884,7 @@ public final class StringsHelper {
          * @return a是否等于b，不区分大小写
          */
         public boolean equalsIgnoreCase(final String b) {
-            return Strings.equalsIgnoreCase(value, b);
+            return Strings.equalsIgnoreCase(value(), b);
         }
 
         /**
@@ -877,7 +894,7 @@ public final class StringsHelper {
          * @return a是否不等于b
          */
         public boolean notEquals(final String b) {
-            return Strings.notEquals(value, b);
+            return Strings.notEquals(value(), b);
         }
 
         /**
@@ -887,7 +904,7 @@ public final class StringsHelper {
          * @return a是否大于b
          */
         public boolean gt(final String b) {
-            return Strings.gt(value, b);
+            return Strings.gt(value(), b);
         }
 
         /**
@@ -897,7 +914,7 @@ public final class StringsHelper {
          * @return a是否小于b
          */
         public boolean lt(final String b) {
-            return Strings.lt(value, b);
+            return Strings.lt(value(), b);
         }
 
         /**
@@ -907,7 +924,7 @@ public final class StringsHelper {
          * @return a的长度是否等于b的长度
          */
         public boolean lengthEq(final CharSequence b) {
-            return Strings.lengthEq(value, b);
+            return Strings.lengthEq(value(), b);
         }
 
         /**
@@ -917,7 +934,7 @@ public final class StringsHelper {
          * @return a的长度是否大于b的长度
          */
         public boolean lengthGt(final CharSequence b) {
-            return Strings.lengthGt(value, b);
+            return Strings.lengthGt(value(), b);
         }
 
         /**
@@ -927,7 +944,7 @@ public final class StringsHelper {
          * @return a的长度是否大于等于b的长度
          */
         public boolean lengthGte(final CharSequence b) {
-            return Strings.lengthGte(value, b);
+            return Strings.lengthGte(value(), b);
         }
 
         /**
@@ -937,7 +954,7 @@ public final class StringsHelper {
          * @return a的长度是否小于b的长度
          */
         public boolean lengthLt(final CharSequence b) {
-            return Strings.lengthLt(value, b);
+            return Strings.lengthLt(value(), b);
         }
 
         /**
@@ -947,7 +964,7 @@ public final class StringsHelper {
          * @return a的长度是否小于等于b的长度
          */
         public boolean lengthLte(final CharSequence b) {
-            return Strings.lengthLte(value, b);
+            return Strings.lengthLte(value(), b);
         }
 
         /**
@@ -958,7 +975,7 @@ public final class StringsHelper {
          * @return {@link Optional}
          */
         public <T> Optional<T> map(final Function<String, T> fun) {
-            return Strings.map(value, fun);
+            return Strings.map(value(), fun);
         }
 
         /**
@@ -969,7 +986,7 @@ public final class StringsHelper {
          * @return {@link Optional}
          */
         public <N extends Number> Optional<N> toNumber(final Function<String, N> fun) {
-            return Strings.toNumber(value, fun);
+            return Strings.toNumber(value(), fun);
         }
 
         /**
@@ -978,7 +995,7 @@ public final class StringsHelper {
          * @return ByteBuffer
          */
         public ByteBuffer getByteBuffer() {
-            return Strings.getByteBuffer(value);
+            return Strings.getByteBuffer(value());
         }
 
         /**
@@ -988,7 +1005,7 @@ public final class StringsHelper {
          * @return ByteBuffer
          */
         public ByteBuffer getByteBuffer(final Charset charset) {
-            return Strings.getByteBuffer(value, charset);
+            return Strings.getByteBuffer(value(), charset);
         }
 
         /**
@@ -997,7 +1014,7 @@ public final class StringsHelper {
          * @return 字节数组
          */
         public byte[] getBytes() {
-            return Strings.getBytes(value);
+            return Strings.getBytes(value());
         }
 
         /**
@@ -1007,7 +1024,7 @@ public final class StringsHelper {
          * @return 字节数组
          */
         public byte[] getBytes(final Charset charset) {
-            return Strings.getBytes(value, charset);
+            return Strings.getBytes(value(), charset);
         }
 
         /**
@@ -1016,7 +1033,7 @@ public final class StringsHelper {
          * @return 字符串长度
          */
         public int length() {
-            return Strings.length(value);
+            return Strings.length(value());
         }
 
         /**
@@ -1026,7 +1043,7 @@ public final class StringsHelper {
          * @return 出现的次数
          */
         public int countMatches(final String sub) {
-            return Strings.countMatches(value, sub);
+            return Strings.countMatches(value(), sub);
         }
 
         /**
@@ -1036,7 +1053,7 @@ public final class StringsHelper {
          * @return 是否以指定字符串结尾
          */
         public boolean endsWithAny(final String[] searchStrings) {
-            return Strings.endsWithAny(value, searchStrings);
+            return Strings.endsWithAny(value(), searchStrings);
         }
 
         /**
@@ -1046,7 +1063,7 @@ public final class StringsHelper {
          * @return 所有字符是否满足给定判断条件
          */
         public boolean isCharPredicate(final Predicate<Character> predicate) {
-            return Strings.isCharPredicate(value, predicate);
+            return Strings.isCharPredicate(value(), predicate);
         }
 
         /**
@@ -1055,7 +1072,7 @@ public final class StringsHelper {
          * @return 是否只包含小写字符
          */
         public boolean isLowerCase() {
-            return Strings.isLowerCase(value);
+            return Strings.isLowerCase(value());
         }
 
         /**
@@ -1064,7 +1081,7 @@ public final class StringsHelper {
          * @return 是否只包含大写字符
          */
         public boolean isUpperCase() {
-            return Strings.isUpperCase(value);
+            return Strings.isUpperCase(value());
         }
 
         /**
@@ -1073,7 +1090,7 @@ public final class StringsHelper {
          * @return 是否只包含unicode字母
          */
         public boolean isLetter() {
-            return Strings.isLetter(value);
+            return Strings.isLetter(value());
         }
 
         /**
@@ -1082,7 +1099,7 @@ public final class StringsHelper {
          * @return 是否只包含unicode数字
          */
         public boolean isDigit() {
-            return Strings.isDigit(value);
+            return Strings.isDigit(value());
         }
 
         /**
@@ -1091,7 +1108,7 @@ public final class StringsHelper {
          * @return 是否只包含unicode字母或数字
          */
         public boolean isLetterOrDigit() {
-            return Strings.isLetterOrDigit(value);
+            return Strings.isLetterOrDigit(value());
         }
 
         /**
@@ -1100,7 +1117,7 @@ public final class StringsHelper {
          * @return 是否只包含unicode空格
          */
         public boolean isSpaceChar() {
-            return Strings.isSpaceChar(value);
+            return Strings.isSpaceChar(value());
         }
 
         /**
@@ -1109,7 +1126,7 @@ public final class StringsHelper {
          * @return 是否只包含ASCII可打印字符
          */
         public boolean isAsciiPrintable() {
-            return Strings.isAsciiPrintable(value);
+            return Strings.isAsciiPrintable(value());
         }
 
         /**
@@ -1118,7 +1135,7 @@ public final class StringsHelper {
          * @return 是否只包含ASCII控制字符
          */
         public boolean isAsciiControl() {
-            return Strings.isAsciiControl(value);
+            return Strings.isAsciiControl(value());
         }
 
         /**
@@ -1145,7 +1162,7 @@ public final class StringsHelper {
          * @return 是否只包含空白字符
          */
         public boolean isWhitespace() {
-            return Strings.isWhitespace(value);
+            return Strings.isWhitespace(value());
         }
 
         /**
@@ -1154,9 +1171,312 @@ public final class StringsHelper {
          * @return 所有字符是否都在Unicode中有定义
          */
         public boolean isDefined() {
-            return Strings.isDefined(value);
+            return Strings.isDefined(value());
+        }
+
+    }
+
+    /**
+     * {@link Builder}中延迟执行的操作
+     */
+    private static class Step {
+
+        private final Function<String, String> fun;
+
+        Step(final Function<String, String> fun) {
+            this.fun = fun;
+        }
+
+        /**
+         * 逐个执行
+         */
+        String apply(final String value) {
+            return fun.apply(value);
         }
 
+        /**
+         * 是否可能在共享缓冲区上执行
+         */
+        boolean fusible() {
+            return false;
+        }
+
+        /**
+         * 尝试在共享缓冲区上执行
+         *
+         * @return 不能执行时返回false，由调用方改为逐个执行
+         */
+        boolean fuse(final FusedBuffer buffer) {
+            return false;
+        }
+    }
+
+    /**
+     * 只改变首尾位置的操作：trim、strip、截取
+     */
+    private static final class BoundStep extends Step {
+
+        private static final int TRIM_KIND = 0;
+        private static final int STRIP_KIND = 1;
+        private static final int STRIP_START_KIND = 2;
+        private static final int STRIP_END_KIND = 3;
+        private static final int LEFT_KIND = 4;
+        private static final int RIGHT_KIND = 5;
+        private static final int MID_KIND = 6;
+
+        static final BoundStep TRIM = new BoundStep(Strings::trim, TRIM_KIND, 0, 0);
+        static final BoundStep STRIP = new BoundStep(Strings::strip, STRIP_KIND, 0, 0);
+        static final BoundStep STRIP_START = new BoundStep(Strings::stripStart, STRIP_START_KIND, 0, 0);
+        static final BoundStep STRIP_END = new BoundStep(Strings::stripEnd, STRIP_END_KIND, 0, 0);
+
+        private final int kind;
+        private final int pos;
+        private final int len;
+
+        private BoundStep(final Function<String, String> fun, final int kind, final int pos, final int len) {
+            super(fun);
+            this.kind = kind;
+            this.pos = pos;
+            this.len = len;
+        }
+
+        static BoundStep left(final int len) {
+            return new BoundStep(v -> Strings.left(v, len), LEFT_KIND, 0, len);
+        }
+
+        static BoundStep right(final int len) {
+            return new BoundStep(v -> Strings.right(v, len), RIGHT_KIND, 0, len);
+        }
+
+        static BoundStep mid(final int pos, final int len) {
+            return new BoundStep(v -> Strings.mid(v, pos, len), MID_KIND, pos, len);
+        }
+
+        @Override
+        boolean fusible() {
+            return true;
+        }
+
+        @Override
+        boolean fuse(final FusedBuffer buffer) {
+            // 首尾判断需要看到之前的字符替换结果
+            buffer.applyMaps();
+            int start = buffer.start;
+            int end = buffer.end;
+            switch (kind) {
+                case TRIM_KIND:
+                    while (start < end && buffer.charAt(start) <= ' ') {
+                        start++;
+                    }
+                    while (end > start && buffer.charAt(end - 1) <= ' ') {
+                        end--;
+                    }
+                    break;
+                case STRIP_KIND:
+                case STRIP_START_KIND:
+                case STRIP_END_KIND:
+                    if (kind != STRIP_END_KIND) {
+                        while (start < end && Characters.isWhitespace(buffer.charAt(start))) {
+                            start++;
+                        }
+                    }
+                    if (kind != STRIP_START_KIND) {
+                        while (end > start && Characters.isWhitespace(buffer.charAt(end - 1))) {
+                            end--;
+                        }
+                    }
+                    break;
+                case LEFT_KIND:
+                    if (len <= 0) {
+                        end = start;
+                    } else if (end - start > len) {
+                        end = start + len;
+                    }
+                    break;
+                case RIGHT_KIND:
+                    if (len <= 0) {
+                        start = end;
+                    } else if (end - start > len) {
+                        start = end - len;
+                    }
+                    break;
+                default:
+                    final int length = end - start;
+                    if (length == 0) {
+                        break;
+                    }
+                    if (len < 0 || pos > length) {
+                        start = end;
+                        break;
+                    }
+                    final int p = Math.max(pos, 0);
+                    if (length > p + len) {
+                        end = start + p + len;
+                    }
+                    start += p;
+                    break;
+            }
+            buffer.start = start;
+            buffer.end = end;
+            return true;
+        }
+    }
+
+    /**
+     * 逐字符映射的操作：字符替换、大小写转换
+     */
+    private static final class CharStep extends Step {
+
+        private static final int REPLACE_KIND = 0;
+        private static final int UPPER_KIND = 1;
+        private static final int LOWER_KIND = 2;
+        private static final int SWAP_KIND = 3;
+
+        static final CharStep SWAP_CASE = new CharStep(Strings::swapCase, SWAP_KIND, null, (char) 0, (char) 0);
+
+        private final int kind;
+        private final Locale locale;
+        private final char target;
+        private final char replacement;
+
+        private CharStep(final Function<String, String> fun, final int kind, final Locale locale,
+                         final char target, final char replacement) {
+            super(fun);
+            this.kind = kind;
+            this.locale = locale;
+            this.target = target;
+            this.replacement = replacement;
+        }
+
+        static CharStep replace(final char target, final char replacement) {
+            return new CharStep(v -> Strings.replace(v, target, replacement), REPLACE_KIND, null, target, replacement);
+        }
+
+        static CharStep upperCase(final Locale locale) {
+            return new CharStep(v -> Strings.upperCase(v, locale), UPPER_KIND, locale, (char) 0, (char) 0);
+        }
+
+        static CharStep lowerCase(final Locale locale) {
+            return new CharStep(v -> Strings.lowerCase(v, locale), LOWER_KIND, locale, (char) 0, (char) 0);
+        }
+
+        @Override
+        boolean fusible() {
+            return true;
+        }
+
+        @Override
+        boolean fuse(final FusedBuffer buffer) {
+            if (kind == UPPER_KIND || kind == LOWER_KIND) {
+                // 只有ASCII内容在非特殊语言环境下才能逐字符转换，否则与String#toUpperCase结果可能不同
+                if (!asciiCaseSafe(locale) || !buffer.isAscii()) {
+                    return false;
+                }
+            } else if (kind == REPLACE_KIND && replacement > Ascii.MAX) {
+                buffer.ascii = Boolean.FALSE;
+            }
+            buffer.addMap(this);
+            return true;
+        }
+
+        char map(final char c) {
+            switch (kind) {
+                case REPLACE_KIND:
+                    return c == target ? replacement : c;
+                case UPPER_KIND:
+                    return Ascii.toUpperCase(c);
+                case LOWER_KIND:
+                    return Ascii.toLowerCase(c);
+                default:
+                    if (Character.isUpperCase(c) || Character.isTitleCase(c)) {
+                        return Character.toLowerCase(c);
+                    } else if (Character.isLowerCase(c)) {
+                        return Character.toUpperCase(c);
+                    }
+                    return c;
+            }
+        }
+
+        private static boolean asciiCaseSafe(final Locale locale) {
+            final String language = (locale == null ? Locale.getDefault() : locale).getLanguage();
+            return !"tr".equals(language) && !"az".equals(language) && !"lt".equals(language);
+        }
+    }
+
+    /**
+     * 合并执行的共享字符缓冲区，首次需要修改字符时才复制源字符串
+     */
+    private static final class FusedBuffer {
+
+        private final String source;
+        private char[] chars;
+        private int start;
+        private int end;
+        private Boolean ascii;
+        private CharStep[] maps = new CharStep[4];
+        private int mapCount;
+
+        FusedBuffer(final String source) {
+            this.source = source;
+            this.end = source.length();
+        }
+
+        char charAt(final int index) {
+            return chars != null ? chars[index] : source.charAt(index);
+        }
+
+        boolean isAscii() {
+            if (ascii == null) {
+                applyMaps();
+                boolean result = true;
+                for (int i = start; i < end; i++) {
+                    if (charAt(i) > Ascii.MAX) {
+                        result = false;
+                        break;
+                    }
+                }
+                ascii = result;
+            }
+            return ascii;
+        }
+
+        void addMap(final CharStep step) {
+            if (mapCount == maps.length) {
+                maps = Arrays.copyOf(maps, mapCount << 1);
+            }
+            maps[mapCount++] = step;
+        }
+
+        /**
+         * 在一次遍历中执行所有待执行的逐字符映射
+         */
+        void applyMaps() {
+            if (mapCount == 0) {
+                return;
+            }
+            if (chars == null) {
+                chars = source.toCharArray();
+            }
+            final char[] buf = chars;
+            final CharStep[] steps = maps;
+            final int count = mapCount;
+            for (int i = start; i < end; i++) {
+                char c = buf[i];
+                for (int k = 0; k < count; k++) {
+                    c = steps[k].map(c);
+                }
+                buf[i] = c;
+            }
+            mapCount = 0;
+        }
+
+        String result() {
+            applyMaps();
+            if (chars == null) {
+                return start == 0 && end == source.length() ? source : source.substring(start, end);
+            }
+            return new String(chars, start, end - start);
+        }
     }
 
 }
@@ -0,0 +1,188 @@
+package tomkit.core.lang;
+
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * uuid生成工具类
+ * <p>
+ * 每个线程持有独立的{@link SecureRandom}，生成时不存在线程间的锁竞争；
+ * 字符串形式直接格式化到线程私有的缓冲区，不经过{@link UUID#toString()}
+ *
+ * @author yh
+ * @since 2026/10/18
+ */
+public final class Uuids {
+
+    private static final byte[] DIGITS = {
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'
+    };
+
+    private static final ThreadLocal<Source> SOURCE = ThreadLocal.withInitial(Source::new);
+
+    private Uuids() {
+    }
+
+    /**
+     * 生成随机uuid（版本4），与{@link UUID#randomUUID()}等价
+     *
+     * @return 随机uuid
+     */
+    public static UUID randomUUID() {
+        final Source source = SOURCE.get();
+        source.nextRandom();
+        return new UUID(source.msb, source.lsb);
+    }
+
+    /**
+     * 生成按时间排序的uuid（版本7，RFC 9562）
+     * <p>
+     * 高48位为毫秒级unix时间戳，其余为随机数；同一线程同一毫秒内生成的uuid保持递增
+     *
+     * @return 按时间排序的uuid
+     */
+    public static UUID timeOrderedUUID() {
+        final Source source = SOURCE.get();
+        source.nextTimeOrdered();
+        return new UUID(source.msb, source.lsb);
+    }
+
+    /**
+     * 生成随机uuid（版本4）字符串
+     *
+     * @param withHyphen 是否包含连接符，包含时长度为36，否则为32
+     * @return 随机uuid字符串
+     */
+    public static String randomUUIDString(final boolean withHyphen) {
+        final Source source = SOURCE.get();
+        source.nextRandom();
+        return source.format(withHyphen);
+    }
+
+    /**
+     * 生成按时间排序的uuid（版本7）字符串
+     *
+     * @param withHyphen 是否包含连接符，包含时长度为36，否则为32
+     * @return 按时间排序的uuid字符串
+     */
+    public static String timeOrderedUUIDString(final boolean withHyphen) {
+        final Source source = SOURCE.get();
+        source.nextTimeOrdered();
+        return source.format(withHyphen);
+    }
+
+    /**
+     * 将uuid格式化为字符串
+     *
+     * @param uuid       uuid
+     * @param withHyphen 是否包含连接符，包含时与{@link UUID#toString()}一致
+     * @return uuid字符串
+     */
+    public static String toString(final UUID uuid, final boolean withHyphen) {
+        Assert.notNull(uuid, "uuid cannot be null");
+
+        final Source source = SOURCE.get();
+        source.msb = uuid.getMostSignificantBits();
+        source.lsb = uuid.getLeastSignificantBits();
+        return source.format(withHyphen);
+    }
+
+    /**
+     * 创建线程私有的安全随机数生成器
+     * <p>
+     * 优先使用SHA1PRNG，它只在实例上同步；默认的NativePRNG在所有实例间共享同一把锁
+     */
+    private static SecureRandom newSecureRandom() {
+        try {
+            return SecureRandom.getInstance("SHA1PRNG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+
+    /**
+     * 线程私有的生成状态
+     */
+    private static final class Source {
+
+        private final SecureRandom random = newSecureRandom();
+        private final byte[] bytes = new byte[16];
+        private final byte[] chars = new byte[36];
+        private long msb;
+        private long lsb;
+        private long lastMillis;
+        private int sequence;
+
+        void nextRandom() {
+            random.nextBytes(bytes);
+            long hi = readLong(0);
+            long lo = readLong(8);
+            // version 4
+            hi = (hi & 0xffffffffffff0fffL) | 0x0000000000004000L;
+            // IETF variant
+            lo = (lo & 0x3fffffffffffffffL) | 0x8000000000000000L;
+            msb = hi;
+            lsb = lo;
+        }
+
+        void nextTimeOrdered() {
+            random.nextBytes(bytes);
+            final long now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                // 随机起点，留出递增空间
+                sequence = (bytes[0] & 0x07) << 8 | (bytes[1] & 0xff);
+            } else if (++sequence > 0xfff) {
+                // 同一毫秒内序号用尽时借用下一毫秒
+                lastMillis++;
+                sequence = 0;
+            }
+            // unix_ts_ms(48) | ver(4) | rand_a(12)
+            msb = (lastMillis << 16) | 0x7000L | sequence;
+            // var(2) | rand_b(62)
+            lsb = (readLong(8) & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        }
+
+        String format(final boolean withHyphen) {
+            final byte[] buf = chars;
+            int pos = 0;
+            pos = formatHex(msb >>> 32, 8, buf, pos);
+            if (withHyphen) {
+                buf[pos++] = '-';
+            }
+            pos = formatHex(msb >>> 16, 4, buf, pos);
+            if (withHyphen) {
+                buf[pos++] = '-';
+            }
+            pos = formatHex(msb, 4, buf, pos);
+            if (withHyphen) {
+                buf[pos++] = '-';
+            }
+            pos = formatHex(lsb >>> 48, 4, buf, pos);
+            if (withHyphen) {
+                buf[pos++] = '-';
+            }
+            pos = formatHex(lsb, 12, buf, pos);
+            return new String(buf, 0, pos, StandardCharsets.ISO_8859_1);
+        }
+
+        private long readLong(final int offset) {
+            long value = 0;
+            for (int i = offset; i < offset + 8; i++) {
+                value = (value << 8) | (bytes[i] & 0xff);
+            }
+            return value;
+        }
+
+        private static int formatHex(long value, final int digits, final byte[] buf, final int offset) {
+            for (int i = offset + digits - 1; i >= offset; i--) {
+                buf[i] = DIGITS[(int) value & 0x0f];
+                value >>>= 4;
+            }
+            return offset + digits;
+        }
+    }
+
+}